@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import com.github.lombrozo.testnames.javaparser.JavaParserProject;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for {@link Cop#inspection()} over a synthetic project.
+ *
+ * @since 1.5
+ */
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CopBenchmark {
+
+    /**
+     * Number of test classes in the project.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Param({"10", "100", "1000", "10000", "50000"})
+    public int classes;
+
+    /**
+     * Number of threads to inspect the project with.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Param({"1", "4"})
+    public int threads;
+
+    /**
+     * The directory with the project.
+     */
+    private Path root;
+
+    /**
+     * Generate the project.
+     * @throws IOException If files can't be written.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        this.root = new SyntheticProject(this.classes).write(
+            Files.createTempDirectory("jtcop-benchmark")
+        );
+    }
+
+    /**
+     * Remove the project.
+     * @throws IOException If files can't be removed.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(this.root)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * Inspect the project.
+     * @return Complaints.
+     */
+    @Benchmark
+    public Collection<Complaint> inspects() {
+        return new Cop(
+            new JavaParserProject(
+                this.root.resolve("main"),
+                this.root.resolve("test"),
+                Collections.emptySet()
+            ),
+            new Parameters(),
+            this.threads
+        ).inspection();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for parsing of java sources with {@link JavaParserClass}.
+ *
+ * @since 1.5
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JavaParserClassBenchmark {
+
+    /**
+     * Number of test methods in the parsed class.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Param({"10", "100", "1000"})
+    public int methods;
+
+    /**
+     * Source code of the test class.
+     */
+    private byte[] source;
+
+    /**
+     * Generate the source code.
+     */
+    @Setup
+    public void setUp() {
+        this.source = String.format(
+            "import org.junit.jupiter.api.*;%nfinal class GeneratedTest {%n%s%n}",
+            IntStream.range(0, this.methods)
+                .mapToObj(
+                    idx -> String.format(
+                        "@Test void checksCase%d() { Assertions.assertTrue(true, \"true\"); }",
+                        idx
+                    )
+                )
+                .collect(Collectors.joining(System.lineSeparator()))
+        ).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parse the class.
+     * @return Parsed class.
+     */
+    @Benchmark
+    public JavaParserClass parses() {
+        return new JavaParserClass(
+            new ByteArrayInputStream(this.source),
+            JavaParserProject.resolver()
+        );
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.stmt.Statement;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for traversal of a test method with 2,000 statements.
+ * Compares {@link JavaParserMethod#statements()} with the recursive
+ * stream-based traversal that was used before.
+ *
+ * @since 1.5
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JavaParserMethodBenchmark {
+
+    /**
+     * The method with 2,000 statements.
+     */
+    private JavaParserMethod method;
+
+    /**
+     * Parse the method.
+     */
+    @Setup
+    public void setUp() {
+        this.method = new JavaParserMethod(
+            StaticJavaParser.parseMethodDeclaration(
+                String.format(
+                    "void checks() { %s %s%s }",
+                    IntStream.range(0, 1_900)
+                        .mapToObj(idx -> String.format("check(%d);", idx))
+                        .collect(Collectors.joining(" ")),
+                    String.join("", Collections.nCopies(100, "if (true) { nested(); ")),
+                    String.join("", Collections.nCopies(100, "}"))
+                )
+            )
+        );
+    }
+
+    /**
+     * Iterative traversal.
+     * @return Number of statements.
+     */
+    @Benchmark
+    public long iterative() {
+        return this.method.statements().count();
+    }
+
+    /**
+     * Recursive stream-based traversal.
+     * @return Number of statements.
+     */
+    @Benchmark
+    public long recursive() {
+        return this.method.asMethodDeclaration().getBody()
+            .map(body -> body.getStatements().stream())
+            .orElseGet(Stream::empty)
+            .flatMap(JavaParserMethodBenchmark::statements)
+            .filter(Statement::isExpressionStmt)
+            .map(stmt -> stmt.asExpressionStmt().getExpression())
+            .filter(Expression::isMethodCallExpr)
+            .count();
+    }
+
+    /**
+     * Recursive flattening of statements.
+     * @param node Node to extract statements from.
+     * @return Statements.
+     */
+    private static Stream<Statement> statements(final Node node) {
+        return Stream.concat(
+            Stream.of(node)
+                .filter(Statement.class::isInstance)
+                .map(Statement.class::cast),
+            node.getChildNodes()
+                .stream()
+                .flatMap(JavaParserMethodBenchmark::statements)
+        );
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.lombrozo.testnames.TestCase;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for collecting test cases of a class with long test methods.
+ * Compares {@link JavaParserTestClass#all()}, which is memoised and keys test
+ * cases by their position, with hashing of the entire method declarations
+ * that was used before. Rules ask for all test cases several times, so
+ * the benchmark does it three times too.
+ *
+ * @since 1.5
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JavaParserTestClassBenchmark {
+
+    /**
+     * Number of test methods in the class.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Param({"100", "500"})
+    public int methods;
+
+    /**
+     * The parsed class.
+     */
+    private JavaParserClass parsed;
+
+    /**
+     * Parse the class with long test methods.
+     */
+    @Setup
+    public void setUp() {
+        this.parsed = new JavaParserClass(
+            new ByteArrayInputStream(
+                String.format(
+                    "import org.junit.jupiter.api.*;%nfinal class GeneratedTest {%n%s%n}",
+                    IntStream.range(0, this.methods)
+                        .mapToObj(
+                            idx -> String.format(
+                                "@Test void checksCase%d() { %s }",
+                                idx,
+                                String.join("", Collections.nCopies(100, "check(\"value\");"))
+                            )
+                        )
+                        .collect(Collectors.joining(System.lineSeparator()))
+                ).getBytes(StandardCharsets.UTF_8)
+            ),
+            JavaParserProject.resolver()
+        );
+    }
+
+    /**
+     * Collect test cases by their identity.
+     * @return Number of test cases.
+     */
+    @Benchmark
+    public int identities() {
+        final JavaParserTestClass klass = new JavaParserTestClass(
+            Paths.get("GeneratedTest.java"),
+            this.parsed,
+            Collections.emptySet()
+        );
+        int total = 0;
+        for (int idx = 0; idx < 3; ++idx) {
+            final Collection<TestCase> all = klass.all();
+            total += all.size();
+        }
+        return total;
+    }
+
+    /**
+     * Collect test cases by hashing of their declarations.
+     * @return Number of test cases.
+     */
+    @Benchmark
+    public int declarations() {
+        int total = 0;
+        for (int idx = 0; idx < 3; ++idx) {
+            final Set<MethodDeclaration> all = this.parsed.methods(new TestsOnly())
+                .map(JavaParserMethod::asMethodDeclaration)
+                .collect(Collectors.toSet());
+            total += all.size();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+import com.github.lombrozo.testnames.Assertion;
+import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.ComplaintSink;
+import com.github.lombrozo.testnames.Parameters;
+import com.github.lombrozo.testnames.Rule;
+import com.github.lombrozo.testnames.TestCase;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for the check of a correct test case by all built-in rules.
+ * Compares stateless {@link CaseRules} with the rule objects created for each
+ * test case. Run it with {@code -prof gc} to compare allocations per check.
+ *
+ * @since 1.5
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CaseRulesBenchmark {
+
+    /**
+     * Correct test case.
+     */
+    private final TestCase test = new TestCase.Fake(
+        "createsUser",
+        new Assertion.Fake("User is created")
+    );
+
+    /**
+     * Stateless rules.
+     */
+    private final CaseRules rules = new CaseRules(new Parameters());
+
+    /**
+     * Sink that only counts complaints.
+     */
+    private final Counted sink = new Counted();
+
+    /**
+     * Check by stateless rules.
+     * @return Number of complaints.
+     */
+    @Benchmark
+    public int stateless() {
+        this.rules.check(this.test, this.sink);
+        return this.sink.count;
+    }
+
+    /**
+     * Check by rule objects created for the test case.
+     * @return Number of complaints.
+     */
+    @Benchmark
+    public int objects() {
+        final Collection<Complaint> all = Stream.of(
+            new RuleNotCamelCase(this.test),
+            new RuleNotContainsTestWord(this.test),
+            new RuleNotSpam(this.test),
+            new RuleNotUsesSpecialCharacters(this.test),
+            new RulePresentTense(this.test),
+            new RuleAssertionMessage(this.test),
+            new LineHitterRule(this.test),
+            new RuleTestCaseContainsMockery(this.test, new Parameters())
+        ).map(rule -> new RuleSuppressed(rule, this.test))
+            .map(Rule::complaints)
+            .flatMap(Collection::stream)
+            .collect(Collectors.toList());
+        return all.size();
+    }
+
+    /**
+     * Sink that counts complaints.
+     *
+     * @since 1.5
+     */
+    private static final class Counted implements ComplaintSink {
+
+        /**
+         * Number of complaints.
+         */
+        private int count;
+
+        @Override
+        public void accept(final Complaint complaint) {
+            ++this.count;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.Parameters;
+import com.github.lombrozo.testnames.ProductionIndex;
+import com.github.lombrozo.testnames.TestCase;
+import com.github.lombrozo.testnames.TestClass;
+import com.github.lombrozo.testnames.javaparser.JavaParserProject;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for each rule separately.
+ * All rules check the same parsed test class, so only the rule itself is measured.
+ *
+ * @since 1.5
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@SuppressWarnings("PMD.TooManyMethods")
+public class RulesBenchmark {
+
+    /**
+     * The directory with the project.
+     */
+    private Path root;
+
+    /**
+     * The parsed test class.
+     */
+    private TestClass klass;
+
+    /**
+     * The first test case of the class.
+     */
+    private TestCase test;
+
+    /**
+     * Index of production classes.
+     */
+    private ProductionIndex index;
+
+    /**
+     * Write and parse the test class.
+     * @throws IOException If files can't be written.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        this.root = Files.createTempDirectory("jtcop-rules");
+        final Path main = Files.createDirectories(this.root.resolve("main"));
+        final Path tests = Files.createDirectories(this.root.resolve("test"));
+        Files.write(
+            main.resolve("Calculator.java"),
+            "final class Calculator {}".getBytes(StandardCharsets.UTF_8)
+        );
+        Files.write(
+            tests.resolve("CalculatorTest.java"),
+            String.join(
+                "\n",
+                "import org.hamcrest.MatcherAssert;",
+                "import org.hamcrest.Matchers;",
+                "import org.junit.jupiter.api.Assertions;",
+                "import org.junit.jupiter.api.Test;",
+                "import org.mockito.Mockito;",
+                "final class CalculatorTest extends Object {",
+                "  private static final int NUMBER = 1;",
+                "  @Test",
+                "  void test_sums_numbers_test() {",
+                "    final java.util.List list = Mockito.mock(java.util.List.class);",
+                "    final java.util.Map map = Mockito.mock(java.util.Map.class);",
+                "    final java.util.Set set = Mockito.mock(java.util.Set.class);",
+                "    Assertions.assertTrue(true);",
+                "    Assertions.assertEquals(2, 1 + 1, \"Sum is wrong\");",
+                "    MatcherAssert.assertThat(\"Sum is wrong\", 1 + 1, Matchers.is(2));",
+                "    MatcherAssert.assertThat(1 + 1, Matchers.is(2));",
+                "  }",
+                "  private void helper() {}",
+                "}"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        final JavaParserProject project = new JavaParserProject(
+            main,
+            tests,
+            Collections.emptySet()
+        );
+        this.klass = project.testClasses().iterator().next();
+        this.test = this.klass.all().iterator().next();
+        this.index = new ProductionIndex(project);
+    }
+
+    /**
+     * Remove the project.
+     * @throws IOException If files can't be removed.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(this.root)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public Collection<Complaint> correctTestName() {
+        return new RuleCorrectTestName(this.klass).complaints();
+    }
+
+    @Benchmark
+    public Collection<Complaint> everyTestHasProductionClass() {
+        return new RuleEveryTestHasProductionClass(this.index, this.klass).complaints();
+    }
+
+    @Benchmark
+    public Collection<Complaint> inheritanceInTests() {
+        return new RuleInheritanceInTests(this.klass).complaints();
+    }
+
+    @Benchmark
+    public Collection<Complaint> onlyTestMethods() {
+        return new RuleOnlyTestMethods(this.klass).complaints();
+    }
+
+    @Benchmark
+    public Collection<Complaint> prohibitStaticFields() {
+        return new RuleProhibitStaticFields(this.klass).complaints();
+    }
+
+    @Benchmark
+    public Collection<Complaint> correctTestCases() {
+        return new RuleCorrectTestCases(this.klass, new Parameters()).complaints();
+    }
+
+    @Benchmark
+    public Collection<Complaint> correctTestCase() {
+        return new RuleCorrectTestCase(this.test, new Parameters()).complaints();
+    }
+
+    @Benchmark
+    public Collection<Complaint> lineHitter() {
+        return new LineHitterRule(this.test).complaints();
+    }
+
+    @Benchmark
+    public Collection<Complaint> assertionMessage() {
+        return new RuleAssertionMessage(this.test).complaints();
+    }
+
+    @Benchmark
+    public Collection<Complaint> notCamelCase() {
+        return new RuleNotCamelCase(this.test).complaints();
+    }
+
+    @Benchmark
+    public Collection<Complaint> notContainsTestWord() {
+        return new RuleNotContainsTestWord(this.test).complaints();
+    }
+
+    @Benchmark
+    public Collection<Complaint> notSpam() {
+        return new RuleNotSpam(this.test).complaints();
+    }
+
+    @Benchmark
+    public Collection<Complaint> notUsesSpecialCharacters() {
+        return new RuleNotUsesSpecialCharacters(this.test).complaints();
+    }
+
+    @Benchmark
+    public Collection<Complaint> presentTense() {
+        return new RulePresentTense(this.test).complaints();
+    }
+
+    @Benchmark
+    public Collection<Complaint> caseRules() {
+        return new CaseRules(new Parameters()).complaints(this.test);
+    }
+
+    @Benchmark
+    public Collection<Complaint> containsMockery() {
+        return new RuleTestCaseContainsMockery(this.test, 2).complaints();
+    }
+}
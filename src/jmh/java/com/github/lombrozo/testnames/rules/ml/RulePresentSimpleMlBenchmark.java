@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules.ml;
+
+import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.TestCase;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for tagging of test names with {@link RulePresentSimpleMl}.
+ * The model is downloaded once and cached on the file system.
+ * The model is loaded in the setup, so only tagging is measured.
+ *
+ * @since 1.5
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RulePresentSimpleMlBenchmark {
+
+    /**
+     * Name of the test case.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Param({"createsRelease", "leavesPullRequestOpenWhenNoRebaseMode", "build"})
+    public String name;
+
+    /**
+     * The taggers.
+     */
+    private Taggers tagger;
+
+    /**
+     * The taggers without memo.
+     */
+    private Taggers uncached;
+
+    /**
+     * The test case.
+     */
+    private TestCase test;
+
+    /**
+     * Load the model.
+     * @throws Exception If the model can't be loaded.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        this.tagger = new Taggers(new ModelSourceLocal(true));
+        this.tagger.tag("It", "loads");
+        this.uncached = new Taggers(new ModelSourceLocal(true), 0);
+        this.test = new TestCase.Fake(this.name);
+    }
+
+    /**
+     * Check the test name.
+     * @return Complaints.
+     */
+    @Benchmark
+    public Collection<Complaint> tags() {
+        return new RulePresentSimpleMl(this.tagger, this.test).complaints();
+    }
+
+    /**
+     * Check the test name without memoised tags.
+     * @return Complaints.
+     */
+    @Benchmark
+    public Collection<Complaint> tagsUncached() {
+        return new RulePresentSimpleMl(this.uncached, this.test).complaints();
+    }
+}
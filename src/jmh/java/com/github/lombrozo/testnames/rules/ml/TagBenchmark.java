@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules.ml;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for classification of raw tags.
+ * Compares the lookup of {@link Tag} with the linear scan of
+ * {@code Tag.values()} that was used before. Run it with {@code -prof gc}
+ * to see that the lookup doesn't allocate: "gc.alloc.rate.norm" is zero.
+ *
+ * @since 1.5
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TagBenchmark {
+
+    /**
+     * Raw tags of a typical test name.
+     */
+    private final String[] raw = {"PRP", "VBZ", "DT", "NN", "IN", "JJ", "NNS", "UNKNOWN"};
+
+    /**
+     * Lookup of tags.
+     * @return Number of verbs.
+     */
+    @Benchmark
+    public int lookup() {
+        int verbs = 0;
+        for (final String tag : this.raw) {
+            if (Tag.parse(tag).isVerb()) {
+                ++verbs;
+            }
+        }
+        return verbs;
+    }
+
+    /**
+     * Linear scan of tags.
+     * The raw tags of the benchmark are equal to the names of the constants.
+     * @return Number of verbs.
+     */
+    @Benchmark
+    public int scan() {
+        int verbs = 0;
+        for (final String tag : this.raw) {
+            final Tag parsed = Arrays.stream(Tag.values())
+                .filter(t -> t.name().equals(tag))
+                .findFirst()
+                .orElse(Tag.UNKNOWN);
+            if (Arrays.asList(Tag.VB, Tag.VBP, Tag.VBZ).contains(parsed)) {
+                ++verbs;
+            }
+        }
+        return verbs;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.util.Collection;
+
+/**
+ * Rule that checks a single test case.
+ * <p>
+ * Unlike {@link Rule}, it's stateless: the same instance checks all test
+ * cases of a project, even from several threads, and reports complaints to
+ * a {@link ComplaintSink}. The check of a correct test case must not
+ * allocate.
+ * </p>
+ *
+ * @since 1.5
+ */
+public interface CaseRule {
+
+    /**
+     * Name of the rule, used to suppress it.
+     * @return Name of the rule
+     */
+    String name();
+
+    /**
+     * Check the test case.
+     * @param test The test case
+     * @param sink Receiver of complaints
+     */
+    void check(TestCase test, ComplaintSink sink);
+
+    /**
+     * The tier of facts the rule needs.
+     * Rules that don't declare it are supposed to need all facts.
+     * @return The tier of facts
+     */
+    default Facts facts() {
+        return Facts.TYPES;
+    }
+
+    /**
+     * Check the test case and collect complaints.
+     * @param test The test case
+     * @return Complaints
+     */
+    default Collection<Complaint> complaints(final TestCase test) {
+        final ComplaintSink.Listed sink = new ComplaintSink.Listed();
+        this.check(test, sink);
+        return sink.complaints();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Receiver of complaints.
+ * Rules report complaints to the sink instead of returning collections, so
+ * a rule without complaints allocates nothing.
+ *
+ * @since 1.5
+ */
+@FunctionalInterface
+public interface ComplaintSink {
+
+    /**
+     * Accept a complaint.
+     * @param complaint The complaint
+     */
+    void accept(Complaint complaint);
+
+    /**
+     * Sink that collects complaints into a list.
+     * The list is created only when the first complaint comes.
+     *
+     * @since 1.5
+     */
+    final class Listed implements ComplaintSink {
+
+        /**
+         * Collected complaints.
+         */
+        private List<Complaint> all;
+
+        @Override
+        public void accept(final Complaint complaint) {
+            if (this.all == null) {
+                this.all = new ArrayList<>(1);
+            }
+            this.all.add(complaint);
+        }
+
+        /**
+         * Collected complaints.
+         * @return Complaints in the order they were accepted
+         */
+        public Collection<Complaint> complaints() {
+            final Collection<Complaint> result;
+            if (this.all == null) {
+                result = Collections.emptyList();
+            } else {
+                result = Collections.unmodifiableList(this.all);
+            }
+            return result;
+        }
+    }
+}
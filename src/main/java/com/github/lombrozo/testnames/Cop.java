@@ -23,14 +23,21 @@
  */
 package com.github.lombrozo.testnames;
 
+import com.github.lombrozo.testnames.rules.CaseRules;
 import com.github.lombrozo.testnames.rules.RuleCorrectTestCases;
 import com.github.lombrozo.testnames.rules.RuleCorrectTestName;
 import com.github.lombrozo.testnames.rules.RuleEveryTestHasProductionClass;
 import com.github.lombrozo.testnames.rules.RuleInheritanceInTests;
 import com.github.lombrozo.testnames.rules.RuleOnlyTestMethods;
 import com.github.lombrozo.testnames.rules.RuleProhibitStaticFields;
-import com.github.lombrozo.testnames.rules.RuleSuppressed;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -52,6 +59,16 @@ final class Cop {
      */
     private final Function<Suspect, Stream<Rule>> law;
 
+    /**
+     * The number of threads to inspect test classes with.
+     */
+    private final int threads;
+
+    /**
+     * Results of previous inspections.
+     */
+    private final InspectionCache cache;
+
     /**
      * Ctor.
      * @param project The project to check.
@@ -66,7 +83,54 @@ final class Cop {
      * @param parameters Parameters for rules.
      */
     Cop(final Project proj, final Parameters parameters) {
-        this(proj, Cop.regular(parameters));
+        this(proj, parameters, 1);
+    }
+
+    /**
+     * Ctor.
+     * @param proj The project to check.
+     * @param parameters Parameters for rules.
+     * @param threads The number of threads to inspect test classes with.
+     */
+    Cop(final Project proj, final Parameters parameters, final int threads) {
+        this(proj, parameters, threads, new InspectionCache.Disabled());
+    }
+
+    /**
+     * Ctor.
+     * @param proj The project to check.
+     * @param parameters Parameters for rules.
+     * @param threads The number of threads to inspect test classes with.
+     * @param cache Results of previous inspections.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    Cop(
+        final Project proj,
+        final Parameters parameters,
+        final int threads,
+        final InspectionCache cache
+    ) {
+        this(proj, parameters, threads, cache, Collections.emptySet());
+    }
+
+    /**
+     * Ctor.
+     * Rules excluded for an entire project are never created.
+     * @param proj The project to check.
+     * @param parameters Parameters for rules.
+     * @param threads The number of threads to inspect test classes with.
+     * @param cache Results of previous inspections.
+     * @param exclusions Rules excluded for an entire project.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    Cop(
+        final Project proj,
+        final Parameters parameters,
+        final int threads,
+        final InspectionCache cache,
+        final Collection<String> exclusions
+    ) {
+        this(proj, Cop.regular(parameters, exclusions), threads, cache);
     }
 
     /**
@@ -77,50 +141,222 @@ final class Cop {
     Cop(
         final Project project,
         final Function<Suspect, Stream<Rule>> law
+    ) {
+        this(project, law, 1);
+    }
+
+    /**
+     * Ctor.
+     * @param project The project to check.
+     * @param law The law to check the project.
+     * @param threads The number of threads to inspect test classes with.
+     */
+    Cop(
+        final Project project,
+        final Function<Suspect, Stream<Rule>> law,
+        final int threads
+    ) {
+        this(project, law, threads, new InspectionCache.Disabled());
+    }
+
+    /**
+     * Primary ctor.
+     * @param project The project to check.
+     * @param law The law to check the project.
+     * @param threads The number of threads to inspect test classes with.
+     * @param cache Results of previous inspections.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    Cop(
+        final Project project,
+        final Function<Suspect, Stream<Rule>> law,
+        final int threads,
+        final InspectionCache cache
     ) {
         this.project = project;
         this.law = law;
+        this.threads = threads;
+        this.cache = cache;
     }
 
     /**
      * Checks the project.
+     * Complaints always go in the order of test classes of the project,
+     * regardless of the number of threads.
+     * Test classes are streamed, so each of them may be released right after
+     * the inspection, and only messages of the complaints are kept.
      * @return The complaints.
      */
     Collection<Complaint> inspection() {
-        return this.project.testClasses().stream()
-            .map(testClass -> new Suspect(this.project, testClass))
-            .flatMap(this.law)
-            .map(Rule::complaints)
+        final ProductionIndex index = new ProductionIndex(this.project);
+        final Collection<Complaint> result;
+        try (Stream<TestClass> tests = this.project.tests()) {
+            if (this.threads > 1) {
+                result = this.parallel(tests, index);
+            } else {
+                result = this.complaints(tests, index);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks test classes in a separate pool of threads.
+     * @param tests The test classes to check.
+     * @param index The index of production classes.
+     * @return The complaints.
+     */
+    private List<Complaint> parallel(
+        final Stream<TestClass> tests,
+        final ProductionIndex index
+    ) {
+        final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        final ForkJoinPool pool = new ForkJoinPool(
+            this.threads,
+            fork -> {
+                final ForkJoinWorkerThread thread =
+                    ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(fork);
+                thread.setContextClassLoader(loader);
+                return thread;
+            },
+            null,
+            false
+        );
+        try {
+            return pool.submit(
+                () -> this.complaints(tests.parallel(), index)
+            ).get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Inspection was interrupted", ex);
+        } catch (final ExecutionException ex) {
+            throw new IllegalStateException("Inspection failed", ex.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Checks test classes.
+     * @param classes The test classes to check.
+     * @param index The index of production classes.
+     * @return The complaints in the order of test classes.
+     */
+    private List<Complaint> complaints(
+        final Stream<TestClass> classes,
+        final ProductionIndex index
+    ) {
+        return classes
+            .map(testClass -> this.complaints(testClass, index))
             .flatMap(Collection::stream)
             .collect(Collectors.toList());
     }
 
+    /**
+     * Checks a single test class.
+     * Complaints of the test class that hasn't changed since the previous
+     * inspection are taken from the cache. Complaints are turned into plain
+     * messages, so they don't hold the parsed test class.
+     * @param test The test class to check.
+     * @param index The index of production classes.
+     * @return The complaints.
+     */
+    private Collection<Complaint> complaints(final TestClass test, final ProductionIndex index) {
+        return this.cache.complaints(test, index).orElseGet(
+            () -> {
+                final Collection<Complaint> result = this.law
+                    .apply(new Suspect(this.project, test, index))
+                    .map(Rule::complaints)
+                    .flatMap(Collection::stream)
+                    .map(Complaint::message)
+                    .map(Complaint.Text::new)
+                    .collect(Collectors.toList());
+                this.cache.remember(test, index, result);
+                return result;
+            }
+        );
+    }
+
     /**
      * Experimental law.
      * @return The experimental law which will be applied to projects that uses `experimental`
      *  features.
      */
-    static Function<Suspect, Stream<Rule>> experimental() {
-        return suspect -> Stream.of(
-            new RuleSuppressed(new RuleOnlyTestMethods(suspect.test()), suspect.test())
-        );
+    static Law experimental() {
+        return new Law(suspect -> new RuleOnlyTestMethods(suspect.test()), Facts.STRUCTURE);
     }
 
     /**
      * Regular law.
+     * The set of rules is computed once: rules excluded for an entire project
+     * are never created, and if all rules for test cases are excluded, test
+     * cases aren't visited at all.
      * @param parameters Parameters for rules.
+     * @param exclusions Rules excluded for an entire project.
      * @return The regular law which will be applied to all projects.
      */
-    private static Function<Suspect, Stream<Rule>> regular(final Parameters parameters) {
-        return suspect -> Stream.of(
-            new RuleSuppressed(
-                new RuleEveryTestHasProductionClass(suspect.project(), suspect.test()),
-                suspect.test()
+    static Law regular(final Parameters parameters, final Collection<String> exclusions) {
+        final Suppression excluded = new Suppression(exclusions);
+        final CaseRules cases = new CaseRules(parameters).without(excluded);
+        final Collection<Law> laws = new ArrayList<>(5);
+        Cop.enact(
+            laws,
+            excluded,
+            new Law(
+                suspect -> new RuleEveryTestHasProductionClass(
+                    suspect.production(),
+                    suspect.test()
+                ),
+                Facts.STRUCTURE
             ),
-            new RuleSuppressed(new RuleProhibitStaticFields(suspect.test()), suspect.test()),
-            new RuleSuppressed(new RuleCorrectTestName(suspect.test()), suspect.test()),
-            new RuleSuppressed(new RuleInheritanceInTests(suspect.test()), suspect.test()),
-            new RuleSuppressed(new RuleCorrectTestCases(suspect.test(), parameters), suspect.test())
+            RuleEveryTestHasProductionClass.NAME,
+            RuleEveryTestHasProductionClass.SECOND_NAME
+        );
+        Cop.enact(
+            laws,
+            excluded,
+            new Law(suspect -> new RuleProhibitStaticFields(suspect.test()), Facts.STRUCTURE),
+            RuleProhibitStaticFields.class.getSimpleName()
+        );
+        Cop.enact(
+            laws,
+            excluded,
+            new Law(suspect -> new RuleCorrectTestName(suspect.test()), Facts.NAMES),
+            RuleCorrectTestName.class.getSimpleName()
         );
+        Cop.enact(
+            laws,
+            excluded,
+            new Law(suspect -> new RuleInheritanceInTests(suspect.test()), Facts.STRUCTURE),
+            RuleInheritanceInTests.class.getSimpleName()
+        );
+        if (!cases.isEmpty()) {
+            Cop.enact(
+                laws,
+                excluded,
+                new Law(suspect -> new RuleCorrectTestCases(suspect.test(), cases), cases.facts()),
+                RuleCorrectTestCases.class.getSimpleName()
+            );
+        }
+        return new Law(laws);
+    }
+
+    /**
+     * Add the rule to the law unless it's excluded.
+     * @param laws Rules of the law.
+     * @param excluded Rules excluded for an entire project.
+     * @param law The rule.
+     * @param names Names of the rule.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private static void enact(
+        final Collection<Law> laws,
+        final Suppression excluded,
+        final Law law,
+        final String... names
+    ) {
+        if (!excluded.hasAny(Arrays.asList(names))) {
+            laws.add(law);
+        }
     }
 }
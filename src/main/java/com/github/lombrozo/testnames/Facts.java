@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+/**
+ * Tier of facts about test classes that a rule needs.
+ * <p>
+ * Tiers are ordered by their cost: each tier includes all cheaper ones.
+ * A project computes only the most expensive tier required by the active
+ * rules, so, for example, if all rules need only names, test classes aren't
+ * parsed at all.
+ * </p>
+ *
+ * @since 1.5
+ */
+public enum Facts {
+
+    /**
+     * Names of test classes, taken from file names without parsing.
+     */
+    NAMES,
+
+    /**
+     * Structure of test classes: fields, annotations, test cases and their names.
+     * Requires parsing of the source file.
+     */
+    STRUCTURE,
+
+    /**
+     * Statements and assertions of test cases.
+     */
+    BODIES,
+
+    /**
+     * Resolved types of expressions, requires symbol resolution.
+     */
+    TYPES;
+
+    /**
+     * The tier that covers both this and the other tier.
+     * @param other The other tier.
+     * @return The most expensive tier of the two.
+     */
+    public Facts with(final Facts other) {
+        final Facts result;
+        if (other.compareTo(this) > 0) {
+            result = other;
+        } else {
+            result = this;
+        }
+        return result;
+    }
+}
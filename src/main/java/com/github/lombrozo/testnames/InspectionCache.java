@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Results of previous inspections.
+ * Allows to skip parsing and inspection of files that haven't changed
+ * since the last run.
+ *
+ * @since 1.5
+ */
+public interface InspectionCache {
+
+    /**
+     * Check if the file is the same as during the previous run.
+     * @param file The file to check.
+     * @return True if the file content hasn't changed.
+     */
+    boolean unchanged(Path file);
+
+    /**
+     * Check if the file contained a test class that has to be inspected
+     * during the previous run.
+     * Makes sense only for {@link #unchanged(Path)} files.
+     * @param file The file to check.
+     * @return True if the file contained a test class.
+     */
+    boolean test(Path file);
+
+    /**
+     * Remember whether the file contains a test class that has to be inspected.
+     * @param file The file.
+     * @param test True if the file contains a test class.
+     */
+    void classify(Path file, boolean test);
+
+    /**
+     * Check if the file contained a JUnit extension during the previous run.
+     * Makes sense only for {@link #unchanged(Path)} files.
+     * @param file The file to check.
+     * @return True if the file contained a JUnit extension.
+     */
+    boolean extension(Path file);
+
+    /**
+     * Remember whether the file contains a JUnit extension.
+     * @param file The file.
+     * @param extension True if the file contains a JUnit extension.
+     */
+    void classifyExtension(Path file, boolean extension);
+
+    /**
+     * Complaints found for the test class during the previous run.
+     * @param test The test class.
+     * @param index The index of current production classes.
+     * @return Complaints if neither the test class nor its production counterpart changed.
+     */
+    Optional<Collection<Complaint>> complaints(TestClass test, ProductionIndex index);
+
+    /**
+     * Remember complaints found for the test class.
+     * @param test The test class.
+     * @param index The index of production classes used during the inspection.
+     * @param complaints The complaints.
+     */
+    void remember(TestClass test, ProductionIndex index, Collection<Complaint> complaints);
+
+    /**
+     * Save all the results for the next run.
+     */
+    void save();
+
+    /**
+     * Cache that doesn't remember anything.
+     * @since 1.5
+     */
+    final class Disabled implements InspectionCache {
+
+        @Override
+        public boolean unchanged(final Path file) {
+            return false;
+        }
+
+        @Override
+        public boolean test(final Path file) {
+            return false;
+        }
+
+        @Override
+        public void classify(final Path file, final boolean test) {
+            // Nothing to remember.
+        }
+
+        @Override
+        public boolean extension(final Path file) {
+            return false;
+        }
+
+        @Override
+        public void classifyExtension(final Path file, final boolean extension) {
+            // Nothing to remember.
+        }
+
+        @Override
+        public Optional<Collection<Complaint>> complaints(
+            final TestClass test,
+            final ProductionIndex index
+        ) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void remember(
+            final TestClass test,
+            final ProductionIndex index,
+            final Collection<Complaint> complaints
+        ) {
+            // Nothing to remember.
+        }
+
+        @Override
+        public void save() {
+            // Nothing to save.
+        }
+    }
+}
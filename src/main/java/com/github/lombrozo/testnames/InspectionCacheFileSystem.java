@@ -0,0 +1,522 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Results of previous inspections stored in a file.
+ * Each file is identified by the hash of its content, so any change in the
+ * file makes the stored results obsolete. Complaints of a test class are also
+ * obsolete if the production counterpart of the test class appeared or disappeared.
+ * All the results are discarded if the fingerprint of the inspection
+ * (plugin version, parameters, exclusions, digest of sources and jars)
+ * differs from the stored one.
+ *
+ * @since 1.5
+ */
+final class InspectionCacheFileSystem implements InspectionCache {
+
+    /**
+     * The separator of the stored values.
+     */
+    private static final String SEPARATOR = "\t";
+
+    /**
+     * Version of the format of stored values.
+     */
+    private static final String FORMAT = "2";
+
+    /**
+     * The file where results are stored.
+     */
+    private final Path file;
+
+    /**
+     * The fingerprint of the inspection.
+     */
+    private final String fingerprint;
+
+    /**
+     * The results of the previous run.
+     */
+    private final Unchecked<Map<String, Entry>> previous;
+
+    /**
+     * The results of the current run.
+     */
+    private final Map<String, Entry> current;
+
+    /**
+     * Content hashes of files.
+     * Empty hash means that the file doesn't exist.
+     */
+    private final Map<String, String> hashes;
+
+    /**
+     * Ctor.
+     * @param file The file where results are stored.
+     * @param fingerprint The fingerprint of the inspection.
+     */
+    InspectionCacheFileSystem(final Path file, final String fingerprint) {
+        this.file = file;
+        this.fingerprint = fingerprint;
+        this.previous = new Unchecked<>(
+            new Synced<>(new Sticky<>(() -> InspectionCacheFileSystem.load(file, fingerprint)))
+        );
+        this.current = new ConcurrentHashMap<>(0);
+        this.hashes = new ConcurrentHashMap<>(0);
+    }
+
+    @Override
+    public boolean unchanged(final Path path) {
+        final String key = InspectionCacheFileSystem.key(path);
+        final Entry entry = this.previous.value().get(key);
+        final boolean result = entry != null && entry.same(this.hash(key));
+        if (result) {
+            this.current.putIfAbsent(key, entry);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean test(final Path path) {
+        final Entry entry = this.entry(InspectionCacheFileSystem.key(path));
+        return entry != null && entry.test;
+    }
+
+    @Override
+    public void classify(final Path path, final boolean test) {
+        final String key = InspectionCacheFileSystem.key(path);
+        final String hash = this.hash(key);
+        if (!hash.isEmpty()) {
+            this.current.merge(
+                key,
+                new Entry(hash, test, false),
+                (old, fresh) -> old.withTest(hash, test)
+            );
+        }
+    }
+
+    @Override
+    public boolean extension(final Path path) {
+        final Entry entry = this.entry(InspectionCacheFileSystem.key(path));
+        return entry != null && entry.extension;
+    }
+
+    @Override
+    public void classifyExtension(final Path path, final boolean extension) {
+        final String key = InspectionCacheFileSystem.key(path);
+        final String hash = this.hash(key);
+        if (!hash.isEmpty()) {
+            this.current.merge(
+                key,
+                new Entry(hash, true, extension),
+                (old, fresh) -> old.withExtension(hash, extension)
+            );
+        }
+    }
+
+    @Override
+    public Optional<Collection<Complaint>> complaints(
+        final TestClass test,
+        final ProductionIndex index
+    ) {
+        final String key = InspectionCacheFileSystem.key(test.path());
+        final Entry entry = this.entry(key);
+        final Optional<Collection<Complaint>> result;
+        if (entry != null
+            && entry.same(this.hash(key))
+            && entry.inspected(index.covers(test.name()))) {
+            this.current.putIfAbsent(key, entry);
+            result = Optional.of(
+                entry.complaints.stream()
+                    .map(Complaint.Text::new)
+                    .collect(Collectors.toList())
+            );
+        } else {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
+    @Override
+    public void remember(
+        final TestClass test,
+        final ProductionIndex index,
+        final Collection<Complaint> complaints
+    ) {
+        final String key = InspectionCacheFileSystem.key(test.path());
+        final String hash = this.hash(key);
+        if (!hash.isEmpty()) {
+            final Entry known = this.entry(key);
+            this.current.put(
+                key,
+                new Entry(
+                    hash,
+                    true,
+                    known != null && known.same(hash) && known.extension,
+                    String.valueOf(index.covers(test.name())),
+                    complaints.stream().map(Complaint::message).collect(Collectors.toList())
+                )
+            );
+        }
+    }
+
+    @Override
+    public void save() {
+        final List<String> lines = new ArrayList<>(this.current.size() + 1);
+        lines.add(InspectionCacheFileSystem.header(this.fingerprint));
+        this.current.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .map(entry -> entry.getValue().line(entry.getKey()))
+            .forEach(lines::add);
+        try {
+            Files.createDirectories(this.file.toAbsolutePath().getParent());
+            Files.write(this.file, lines, StandardCharsets.UTF_8);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Can't save inspection results to %s", this.file),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Stored results for the file, the current ones first.
+     * @param key The absolute path to the file.
+     * @return Stored results or null if there are none.
+     */
+    private Entry entry(final String key) {
+        return this.current.getOrDefault(key, this.previous.value().get(key));
+    }
+
+    /**
+     * Content hash of the file.
+     * @param key The absolute path to the file.
+     * @return Hash or empty string if the file doesn't exist.
+     */
+    private String hash(final String key) {
+        return this.hashes.computeIfAbsent(key, InspectionCacheFileSystem::digest);
+    }
+
+    /**
+     * The first line of stored results.
+     * @param fingerprint The fingerprint of the inspection.
+     * @return The format version and the fingerprint.
+     */
+    private static String header(final String fingerprint) {
+        return String.join(
+            InspectionCacheFileSystem.SEPARATOR,
+            InspectionCacheFileSystem.FORMAT,
+            fingerprint
+        );
+    }
+
+    /**
+     * Key of the file.
+     * @param path The path to the file.
+     * @return The absolute normalized path.
+     */
+    private static String key(final Path path) {
+        return path.toAbsolutePath().normalize().toString();
+    }
+
+    /**
+     * Compute the content hash of the file.
+     * @param key The absolute path to the file.
+     * @return Hash or empty string if the file doesn't exist.
+     */
+    private static String digest(final String key) {
+        final Path path = Paths.get(key);
+        final String result;
+        if (Files.isRegularFile(path)) {
+            try {
+                result = Base64.getEncoder().encodeToString(
+                    MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(path))
+                );
+            } catch (final IOException | NoSuchAlgorithmException ex) {
+                throw new IllegalStateException(
+                    String.format("Can't compute hash of the file %s", path),
+                    ex
+                );
+            }
+        } else {
+            result = "";
+        }
+        return result;
+    }
+
+    /**
+     * Load results of the previous run.
+     * @param file The file where results are stored.
+     * @param fingerprint The fingerprint of the current inspection.
+     * @return Results or empty map if they are absent or obsolete.
+     * @throws IOException If the file can't be read.
+     */
+    private static Map<String, Entry> load(
+        final Path file,
+        final String fingerprint
+    ) throws IOException {
+        final Map<String, Entry> result;
+        if (Files.isRegularFile(file)) {
+            final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            if (!lines.isEmpty()
+                && lines.get(0).equals(InspectionCacheFileSystem.header(fingerprint))) {
+                result = new HashMap<>(lines.size());
+                lines.stream()
+                    .skip(1)
+                    .map(line -> line.split(InspectionCacheFileSystem.SEPARATOR, -1))
+                    .filter(values -> values.length >= 5)
+                    .forEach(
+                        values -> result.put(
+                            InspectionCacheFileSystem.unescaped(values[0]),
+                            new Entry(values)
+                        )
+                    );
+            } else {
+                result = Collections.emptyMap();
+            }
+        } else {
+            result = Collections.emptyMap();
+        }
+        return result;
+    }
+
+    /**
+     * Escape the value to store it in a single line.
+     * @param value The value.
+     * @return Escaped value.
+     */
+    private static String escaped(final String value) {
+        return value.replace("\\", "\\\\")
+            .replace("\t", "\\t")
+            .replace("\n", "\\n")
+            .replace("\r", "\\r");
+    }
+
+    /**
+     * Restore the escaped value.
+     * @param value The escaped value.
+     * @return Original value.
+     */
+    private static String unescaped(final String value) {
+        final StringBuilder result = new StringBuilder(value.length());
+        boolean escape = false;
+        for (final char chr : value.toCharArray()) {
+            if (escape) {
+                if (chr == 't') {
+                    result.append('\t');
+                } else if (chr == 'n') {
+                    result.append('\n');
+                } else if (chr == 'r') {
+                    result.append('\r');
+                } else {
+                    result.append(chr);
+                }
+                escape = false;
+            } else if (chr == '\\') {
+                escape = true;
+            } else {
+                result.append(chr);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Stored results for a single file.
+     * @since 1.5
+     */
+    private static final class Entry {
+
+        /**
+         * Content hash of the file.
+         */
+        private final String hash;
+
+        /**
+         * Whether the file contains a test class that has to be inspected.
+         */
+        private final boolean test;
+
+        /**
+         * Whether the file contains a JUnit extension.
+         */
+        private final boolean extension;
+
+        /**
+         * Whether the test class had a production counterpart during the inspection.
+         * Dash means that the test class wasn't inspected.
+         */
+        private final String covered;
+
+        /**
+         * Complaint messages.
+         */
+        private final List<String> complaints;
+
+        /**
+         * Ctor.
+         * @param values Stored values.
+         */
+        Entry(final String... values) {
+            this(
+                values[1],
+                Boolean.parseBoolean(values[2]),
+                Boolean.parseBoolean(values[3]),
+                values[4],
+                Arrays.stream(values)
+                    .skip(5)
+                    .map(InspectionCacheFileSystem::unescaped)
+                    .collect(Collectors.toList())
+            );
+        }
+
+        /**
+         * Ctor.
+         * @param hash Content hash of the file.
+         * @param test Whether the file contains a test class.
+         * @param extension Whether the file contains a JUnit extension.
+         */
+        Entry(final String hash, final boolean test, final boolean extension) {
+            this(hash, test, extension, "-", Collections.emptyList());
+        }
+
+        /**
+         * Ctor.
+         * @param hash Content hash of the file.
+         * @param test Whether the file contains a test class.
+         * @param extension Whether the file contains a JUnit extension.
+         * @param covered Whether the test class had a production counterpart.
+         * @param complaints Complaint messages.
+         * @checkstyle ParameterNumberCheck (10 lines)
+         */
+        Entry(
+            final String hash,
+            final boolean test,
+            final boolean extension,
+            final String covered,
+            final List<String> complaints
+        ) {
+            this.hash = hash;
+            this.test = test;
+            this.extension = extension;
+            this.covered = covered;
+            this.complaints = complaints;
+        }
+
+        /**
+         * The same results with another test classification.
+         * Results of the inspection are kept only for the same content.
+         * @param current Current content hash of the file.
+         * @param flag Whether the file contains a test class.
+         * @return Updated results.
+         */
+        Entry withTest(final String current, final boolean flag) {
+            final Entry result;
+            if (this.same(current)) {
+                result = new Entry(
+                    this.hash, flag, this.extension, this.covered, this.complaints
+                );
+            } else {
+                result = new Entry(current, flag, false);
+            }
+            return result;
+        }
+
+        /**
+         * The same results with another JUnit extension classification.
+         * Results of the inspection are kept only for the same content.
+         * @param current Current content hash of the file.
+         * @param flag Whether the file contains a JUnit extension.
+         * @return Updated results.
+         */
+        Entry withExtension(final String current, final boolean flag) {
+            final Entry result;
+            if (this.same(current)) {
+                result = new Entry(this.hash, this.test, flag, this.covered, this.complaints);
+            } else {
+                result = new Entry(current, true, flag);
+            }
+            return result;
+        }
+
+        /**
+         * Check if the file has the same content.
+         * @param other Current content hash of the file.
+         * @return True if the content is the same.
+         */
+        boolean same(final String other) {
+            return !other.isEmpty() && this.hash.equals(other);
+        }
+
+        /**
+         * Check if the test class was inspected with the same production counterpart.
+         * @param covers Whether the test class has a production counterpart now.
+         * @return True if stored complaints are still actual.
+         */
+        boolean inspected(final boolean covers) {
+            return this.covered.equals(String.valueOf(covers));
+        }
+
+        /**
+         * Convert to a single line.
+         * @param key The absolute path to the file.
+         * @return Line to store.
+         */
+        String line(final String key) {
+            final List<String> values = new ArrayList<>(this.complaints.size() + 5);
+            values.add(InspectionCacheFileSystem.escaped(key));
+            values.add(this.hash);
+            values.add(String.valueOf(this.test));
+            values.add(String.valueOf(this.extension));
+            values.add(this.covered);
+            this.complaints.stream()
+                .map(InspectionCacheFileSystem::escaped)
+                .forEach(values::add);
+            return String.join(InspectionCacheFileSystem.SEPARATOR, values);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Digest of everything an inspection depends on besides the inspected file.
+ * Complaints about a test class depend on other sources, since types are
+ * resolved from them and production classes are looked up among them, and on
+ * jars of the classpath. Any change in them makes all the stored results
+ * obsolete, so the digest is a part of the fingerprint of the inspection.
+ * Jars are identified by their path, size and modification time; sources
+ * by their path and content.
+ *
+ * @since 1.5
+ */
+final class InspectionInputs {
+
+    /**
+     * Directories with sources.
+     */
+    private final Collection<Path> roots;
+
+    /**
+     * Jars of the classpath.
+     */
+    private final Collection<Path> jars;
+
+    /**
+     * Ctor.
+     * @param roots Directories with sources.
+     * @param jars Jars of the classpath.
+     */
+    InspectionInputs(final Collection<Path> roots, final Collection<Path> jars) {
+        this.roots = roots;
+        this.jars = jars;
+    }
+
+    /**
+     * Compute the digest.
+     * @return Base64 encoded SHA-256 digest.
+     */
+    String digest() {
+        final String result;
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (final Path root : this.roots) {
+                for (final Path source : InspectionInputs.files(root)) {
+                    InspectionInputs.update(digest, source.toString());
+                    digest.update(Files.readAllBytes(source));
+                }
+            }
+            for (final Path jar : this.jars) {
+                InspectionInputs.update(digest, jar.toString());
+                if (Files.isRegularFile(jar)) {
+                    InspectionInputs.update(digest, String.valueOf(Files.size(jar)));
+                    InspectionInputs.update(
+                        digest,
+                        String.valueOf(Files.getLastModifiedTime(jar).toMillis())
+                    );
+                }
+            }
+            result = Base64.getEncoder().encodeToString(digest.digest());
+        } catch (final IOException | NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Can't compute digest of inspection inputs", ex);
+        }
+        return result;
+    }
+
+    /**
+     * All files in the directory in a stable order.
+     * @param root The directory.
+     * @return Sorted regular files, or nothing if the directory doesn't exist.
+     * @throws IOException If the directory can't be read.
+     */
+    private static Collection<Path> files(final Path root) throws IOException {
+        final Collection<Path> result;
+        if (Files.isDirectory(root)) {
+            try (Stream<Path> files = Files.walk(root)) {
+                result = files.filter(Files::isRegularFile)
+                    .sorted()
+                    .collect(Collectors.toList());
+            }
+        } else {
+            result = Collections.emptyList();
+        }
+        return result;
+    }
+
+    /**
+     * Add the value to the digest.
+     * The value is terminated, so adjacent values can't be confused.
+     * @param digest The digest.
+     * @param value The value.
+     */
+    private static void update(final MessageDigest digest, final String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+}
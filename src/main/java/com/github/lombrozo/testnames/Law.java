@@ -0,0 +1,121 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import com.github.lombrozo.testnames.rules.RuleConfirmed;
+import com.github.lombrozo.testnames.rules.RuleSuppressed;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * The set of rules to check test classes with.
+ * <p>
+ * The law is the only place that knows the tier of facts each rule needs,
+ * so the tier required by the whole law is known before any test class is
+ * read, see {@link #facts()}.
+ * </p>
+ *
+ * @since 1.5
+ */
+final class Law implements Function<Suspect, Stream<Rule>> {
+
+    /**
+     * Rules of the law, each is wrapped by {@link RuleSuppressed}.
+     */
+    private final Function<Suspect, Stream<Rule>> rules;
+
+    /**
+     * The most expensive tier of facts among the rules.
+     */
+    private final Facts tier;
+
+    /**
+     * Ctor.
+     * @param rule The single rule.
+     * @param facts The tier of facts the rule needs.
+     */
+    Law(final Function<Suspect, Rule> rule, final Facts facts) {
+        this(
+            facts,
+            suspect -> Stream.of(Law.enforced(rule.apply(suspect), suspect.test(), facts))
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param laws Laws to combine.
+     */
+    Law(final Collection<Law> laws) {
+        this(
+            laws.stream()
+                .map(Law::facts)
+                .reduce(Facts.NAMES, Facts::with),
+            suspect -> laws.stream().flatMap(law -> law.apply(suspect))
+        );
+    }
+
+    /**
+     * Primary ctor.
+     * @param facts The most expensive tier of facts among the rules.
+     * @param rules Rules of the law.
+     */
+    private Law(final Facts facts, final Function<Suspect, Stream<Rule>> rules) {
+        this.rules = rules;
+        this.tier = facts;
+    }
+
+    @Override
+    public Stream<Rule> apply(final Suspect suspect) {
+        return this.rules.apply(suspect);
+    }
+
+    /**
+     * The tier of facts the law needs.
+     * @return The most expensive tier among the rules, or the tier of names if
+     *  there are no rules
+     */
+    Facts facts() {
+        return this.tier;
+    }
+
+    /**
+     * The rule as it's applied to the test class.
+     * At the tier of names, projects recognise test classes by their text, so
+     * complaints of such rules are confirmed by the class, see {@link RuleConfirmed}.
+     * @param rule The rule.
+     * @param test The test class.
+     * @param facts The tier of facts the rule needs.
+     * @return The rule that respects suppressions.
+     */
+    private static Rule enforced(final Rule rule, final TestClass test, final Facts facts) {
+        final Rule result;
+        if (facts == Facts.NAMES) {
+            result = new RuleSuppressed(new RuleConfirmed(rule, test), test, facts);
+        } else {
+            result = new RuleSuppressed(rule, test, facts);
+        }
+        return result;
+    }
+}
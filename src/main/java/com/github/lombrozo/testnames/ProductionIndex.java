@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Index of production classes.
+ * Immutable set of normalized simple names of production classes.
+ * The index is built once per inspection, so rules don't have to scan all
+ * production classes for every test class.
+ *
+ * @since 1.5
+ */
+public final class ProductionIndex {
+
+    /**
+     * The suffix of test class names.
+     */
+    private static final String SUFFIX = "Test";
+
+    /**
+     * The pattern to replace the underscore sign "_".
+     */
+    private static final Pattern UNDERSCORE = Pattern.compile("_");
+
+    /**
+     * The pattern to replace the dollar sign "$".
+     */
+    private static final Pattern DOLLAR = Pattern.compile("\\$");
+
+    /**
+     * Normalized names of production classes.
+     */
+    private final Set<String> names;
+
+    /**
+     * Constructor.
+     * @param project Project to index.
+     */
+    public ProductionIndex(final Project project) {
+        this(project.productionClasses());
+    }
+
+    /**
+     * Constructor.
+     * @param classes Production classes to index.
+     */
+    public ProductionIndex(final Collection<? extends ProductionClass> classes) {
+        this(ProductionIndex.index(classes));
+    }
+
+    /**
+     * Primary constructor.
+     * @param names Normalized names of production classes.
+     */
+    private ProductionIndex(final Set<String> names) {
+        this.names = names;
+    }
+
+    /**
+     * Check if production class with the given name exists.
+     * @param name Name of production class, like "Cop", "Cop.java" or "Cop.class".
+     * @return True if production class exists.
+     */
+    public boolean contains(final String name) {
+        return this.names.contains(ProductionIndex.normalized(name));
+    }
+
+    /**
+     * Check if the test class has corresponding production class.
+     * For example, "CopTest" has corresponding production class "Cop".
+     * @param test Name of the test class, like "CopTest" or "CopTest.java".
+     * @return True if corresponding production class exists.
+     */
+    public boolean covers(final String test) {
+        final String name = ProductionIndex.normalized(test);
+        return name.endsWith(ProductionIndex.SUFFIX)
+            && this.names.contains(
+                name.substring(0, name.length() - ProductionIndex.SUFFIX.length())
+            );
+    }
+
+    /**
+     * Normalize class name.
+     * Removes file extension and special symbols like "_" and "$".
+     * @param original The original name.
+     * @return The normalized name.
+     */
+    public static String normalized(final String original) {
+        final String plain;
+        if (original.endsWith(".java")) {
+            plain = original.substring(0, original.length() - 5);
+        } else if (original.endsWith(".class")) {
+            plain = original.substring(0, original.length() - 6);
+        } else {
+            plain = original;
+        }
+        return ProductionIndex.DOLLAR.matcher(
+            ProductionIndex.UNDERSCORE.matcher(plain).replaceAll("")
+        ).replaceAll("");
+    }
+
+    /**
+     * Build the index.
+     * Package-info files are skipped.
+     * @param classes Production classes.
+     * @return Normalized names of production classes.
+     */
+    private static Set<String> index(final Collection<? extends ProductionClass> classes) {
+        final Set<String> res = new HashSet<>(classes.size());
+        for (final ProductionClass clazz : classes) {
+            final String name = clazz.name();
+            if (!"package-info.java".equals(name)) {
+                res.add(ProductionIndex.normalized(name));
+            }
+        }
+        return Collections.unmodifiableSet(res);
+    }
+}
@@ -27,6 +27,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Project.
@@ -47,6 +48,17 @@ public interface Project {
      */
     Collection<TestClass> testClasses();
 
+    /**
+     * Test classes one by one.
+     * Unlike {@link #testClasses()}, the project may read each test class only
+     * when the stream reaches it, so a test class can be garbage collected
+     * right after it is inspected. The stream has to be closed.
+     * @return Stream of test classes.
+     */
+    default Stream<TestClass> tests() {
+        return this.testClasses().stream();
+    }
+
     /**
      * The fake project.
      *
@@ -163,6 +175,14 @@ public interface Project {
                 .flatMap(Collection::stream)
                 .collect(Collectors.toList());
         }
+
+        @Override
+        public Stream<TestClass> tests() {
+            return this.projects.stream()
+                .map(Project::tests)
+                .reduce(Stream::concat)
+                .orElseGet(Stream::empty);
+        }
     }
 
     /**
@@ -196,5 +216,10 @@ public interface Project {
         public Collection<TestClass> testClasses() {
             return Collections.emptyList();
         }
+
+        @Override
+        public Stream<TestClass> tests() {
+            return Stream.empty();
+        }
     }
 }
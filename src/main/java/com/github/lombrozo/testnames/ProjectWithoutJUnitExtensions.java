@@ -27,6 +27,7 @@ package com.github.lombrozo.testnames;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * The project without JUnit extensions.
@@ -40,12 +41,51 @@ final class ProjectWithoutJUnitExtensions implements Project {
      */
     private final Project original;
 
+    /**
+     * Results of previous inspections.
+     */
+    private final InspectionCache cache;
+
+    /**
+     * The tier of facts required by rules.
+     */
+    private final Facts facts;
+
     /**
      * Constructor.
      * @param original Original project.
      */
     ProjectWithoutJUnitExtensions(final Project original) {
+        this(original, new InspectionCache.Disabled());
+    }
+
+    /**
+     * Constructor.
+     * @param original Original project.
+     * @param cache Results of previous inspections.
+     */
+    ProjectWithoutJUnitExtensions(final Project original, final InspectionCache cache) {
+        this(original, cache, Facts.TYPES);
+    }
+
+    /**
+     * Constructor.
+     * JUnit extensions are recognised by the structure of a class, so at the
+     * tier of names they aren't filtered out here: test classes of such
+     * project aren't parsed at all. Complaints about extensions are dropped
+     * later, see {@link com.github.lombrozo.testnames.rules.RuleConfirmed}.
+     * @param original Original project.
+     * @param cache Results of previous inspections.
+     * @param facts The tier of facts required by rules.
+     */
+    ProjectWithoutJUnitExtensions(
+        final Project original,
+        final InspectionCache cache,
+        final Facts facts
+    ) {
         this.original = original;
+        this.cache = cache;
+        this.facts = facts;
     }
 
     @Override
@@ -55,19 +95,38 @@ final class ProjectWithoutJUnitExtensions implements Project {
 
     @Override
     public Collection<TestClass> testClasses() {
-        return Collections.unmodifiableCollection(
-            this.original.testClasses().stream()
-                .filter(ProjectWithoutJUnitExtensions::isNotJUnitExtension)
-                .collect(Collectors.toList())
-        );
+        try (Stream<TestClass> tests = this.tests()) {
+            return Collections.unmodifiableCollection(tests.collect(Collectors.toList()));
+        }
+    }
+
+    @Override
+    public Stream<TestClass> tests() {
+        final Stream<TestClass> result;
+        if (this.facts == Facts.NAMES) {
+            result = this.original.tests();
+        } else {
+            result = this.original.tests().filter(this::isNotJUnitExtension);
+        }
+        return result;
     }
 
     /**
-     * Is JUnit extension.
+     * Is not JUnit extension.
+     * The class that hasn't changed since the previous inspection is checked
+     * without parsing.
      * @param klass Test class.
-     * @return True if JUnit extension.
+     * @return True if not JUnit extension.
      */
-    private static boolean isNotJUnitExtension(final TestClass klass) {
-        return !klass.characteristics().isJUnitExtension();
+    private boolean isNotJUnitExtension(final TestClass klass) {
+        final boolean result;
+        if (this.cache.unchanged(klass.path())) {
+            result = !this.cache.extension(klass.path());
+        } else {
+            final boolean extension = klass.characteristics().isJUnitExtension();
+            this.cache.classifyExtension(klass.path(), extension);
+            result = !extension;
+        }
+        return result;
     }
 }
@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Suppressed rules as a bit set.
+ * <p>
+ * Each rule name is interned to a small integer id once per JVM, see
+ * {@link #id(String)}. Suppressed rules of a test class or a test case are
+ * computed once into a {@link BitSet}, so checking whether a rule is
+ * suppressed is a single bit test instead of a comparison of strings.
+ * </p>
+ *
+ * @since 1.5
+ */
+public final class Suppression {
+
+    /**
+     * Ids of rule names.
+     */
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>(0);
+
+    /**
+     * The next id.
+     */
+    private static final AtomicInteger NEXT = new AtomicInteger();
+
+    /**
+     * Suppressed ids.
+     */
+    private final BitSet bits;
+
+    /**
+     * Ctor.
+     * @param names Names of suppressed rules.
+     */
+    public Suppression(final Collection<String> names) {
+        this(Suppression.bits(names));
+    }
+
+    /**
+     * Ctor.
+     * @param bits Suppressed ids.
+     */
+    private Suppression(final BitSet bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * Id of the rule name.
+     * The same name always has the same id within the JVM.
+     * @param name Name of the rule.
+     * @return Id of the name.
+     */
+    public static int id(final String name) {
+        return Suppression.IDS.computeIfAbsent(
+            name, key -> Suppression.NEXT.getAndIncrement()
+        );
+    }
+
+    /**
+     * Is the rule suppressed?
+     * @param id Id of the rule name, see {@link #id(String)}.
+     * @return True if suppressed.
+     */
+    public boolean has(final int id) {
+        return this.bits.get(id);
+    }
+
+    /**
+     * Is the rule suppressed by any of its names?
+     * @param names Names of the rule.
+     * @return True if suppressed.
+     */
+    public boolean hasAny(final Collection<String> names) {
+        boolean result = false;
+        for (final String name : names) {
+            if (this.has(Suppression.id(name))) {
+                result = true;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Suppressed rules of both.
+     * @param other Other suppressed rules.
+     * @return Union of suppressed rules.
+     */
+    public Suppression with(final Suppression other) {
+        final BitSet union = (BitSet) this.bits.clone();
+        union.or(other.bits);
+        return new Suppression(union);
+    }
+
+    /**
+     * Bit set of suppressed ids.
+     * @param names Names of suppressed rules.
+     * @return Bit set.
+     */
+    private static BitSet bits(final Collection<String> names) {
+        final BitSet result = new BitSet();
+        for (final String name : names) {
+            result.set(Suppression.id(name));
+        }
+        return result;
+    }
+}
@@ -45,14 +45,21 @@ public class Suspect {
      */
     private final TestClass klass;
 
+    /**
+     * The index of production classes of the project.
+     */
+    private final ProductionIndex index;
+
     /**
      * Ctor.
      * @param project The project to check.
      * @param test The test class to check.
+     * @param index The index of production classes of the project.
      */
-    Suspect(final Project project, final TestClass test) {
+    Suspect(final Project project, final TestClass test, final ProductionIndex index) {
         this.proj = project;
         this.klass = test;
+        this.index = index;
     }
 
     /**
@@ -70,4 +77,13 @@ public class Suspect {
     public TestClass test() {
         return this.klass;
     }
+
+    /**
+     * The production classes of the project.
+     * The index is shared between all suspects of the same inspection.
+     * @return The index of production classes.
+     */
+    public ProductionIndex production() {
+        return this.index;
+    }
 }
@@ -49,6 +49,15 @@ public interface TestCase {
      */
     Collection<String> suppressed();
 
+    /**
+     * The suppressed rules as a bit set.
+     * Implementations may compute it only once.
+     * @return The suppressed rules.
+     */
+    default Suppression suppression() {
+        return new Suppression(this.suppressed());
+    }
+
     /**
      * The method assertions.
      * @return The list of assertions.
@@ -70,12 +70,32 @@ public interface TestClass {
      */
     Collection<String> suppressed();
 
+    /**
+     * The suppressed rules as a bit set.
+     * Implementations may compute it only once.
+     * @return The suppressed rules.
+     */
+    default Suppression suppression() {
+        return new Suppression(this.suppressed());
+    }
+
     /**
      * The characteristics of the test class.
      * @return The characteristics of the test class.
      */
     TestClassCharacteristics characteristics();
 
+    /**
+     * Whether the class really contains tests.
+     * Projects may recognise test classes without parsing them, so such class
+     * may turn out to be, for example, an interface or a class that mentions
+     * tests only in comments.
+     * @return True if the class contains tests.
+     */
+    default boolean isTest() {
+        return true;
+    }
+
     /**
      * The fake test class.
      *
@@ -321,6 +341,11 @@ public interface TestClass {
             return this.origin.suppressed();
         }
 
+        @Override
+        public Suppression suppression() {
+            return this.origin.suppression();
+        }
+
         @Override
         public TestClassCharacteristics characteristics() {
             return this.origin.characteristics();
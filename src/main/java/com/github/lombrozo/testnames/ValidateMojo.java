@@ -28,14 +28,18 @@ import com.github.lombrozo.testnames.bytecode.BytecodeProject;
 import com.github.lombrozo.testnames.complaints.ComplaintCompound;
 import com.github.lombrozo.testnames.javaparser.JavaParserProject;
 import java.io.File;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
@@ -122,6 +126,60 @@ public final class ValidateMojo extends AbstractMojo {
     @Parameter(defaultValue = "21")
     private String javaVersion;
 
+    /**
+     * The number of threads to inspect test classes with.
+     * Zero or negative value means the number of available processors.
+     * One thread is the default: resolution of types is shared between
+     * threads and resolves one symbol at a time, and no benchmark has shown
+     * a speedup from more threads yet.
+     */
+    @Parameter(property = "jtcop.threads", defaultValue = "1")
+    private int threads;
+
+    /**
+     * Resolve types from jars of the test classpath.
+     * Makes type resolution more precise, for example, for custom Hamcrest matchers,
+     * but works only if dependencies of the project are already resolved.
+     */
+    @Parameter(property = "jtcop.dependencies", defaultValue = "false")
+    private boolean dependencies;
+
+    /**
+     * Load classes to find types imported on demand, like {@code import foo.*;}.
+     * By default, types are resolved from explicit imports only, without classloading.
+     */
+    @Parameter(property = "jtcop.classloading", defaultValue = "false")
+    private boolean classloading;
+
+    /**
+     * Read generated class files by a lightweight scanner instead of Javassist.
+     * The scanner is faster and uses less memory, but doesn't count test methods
+     * inherited from parent classes.
+     */
+    @Parameter(property = "jtcop.scanner", defaultValue = "false")
+    private boolean scanner;
+
+    /**
+     * Reuse results of the previous inspection for files that haven't changed.
+     * The results are reused only if sources and jars of the project
+     * haven't changed either, since complaints depend on them.
+     */
+    @Parameter(property = "jtcop.incremental", defaultValue = "true")
+    private boolean incremental;
+
+    /**
+     * The directory where results of previous inspections are stored.
+     */
+    @Parameter(defaultValue = "${project.build.directory}/jtcop-cache")
+    private File cache;
+
+    /**
+     * The version of the plugin.
+     * Results of previous inspections made by other versions are ignored.
+     */
+    @Parameter(defaultValue = "${plugin.version}", readonly = true)
+    private String version;
+
     /**
      * Skip the validation.
      */
@@ -141,14 +199,29 @@ public final class ValidateMojo extends AbstractMojo {
 
     private void validate() throws MojoFailureException {
         this.getLog().info("Validating tests...");
+        final Set<String> suppressed = this.suppressed();
+        final Law law = Cop.regular(
+            new Parameters("maxNumberOfMocks", this.maxNumberOfMocks),
+            suppressed
+        );
+        final Facts facts = this.facts(law);
+        final InspectionCache regular = this.cache("regular", suppressed, facts);
         final ProjectWithoutJUnitExtensions proj = new ProjectWithoutJUnitExtensions(
-            new Project.Combined(this.projects())
+            new Project.Combined(this.projects(suppressed, regular, facts)),
+            regular,
+            facts
         );
+        final int workers = this.workers();
         final Collection<Complaint> complaints = new ArrayList<>(
-            new Cop(proj, new Parameters("maxNumberOfMocks", this.maxNumberOfMocks)).inspection()
+            new Cop(proj, law, workers, regular).inspection()
         );
+        regular.save();
         if (this.experimental) {
-            complaints.addAll(new Cop(proj, Cop.experimental()).inspection());
+            final InspectionCache experiment = this.cache("experimental", suppressed, facts);
+            complaints.addAll(
+                new Cop(proj, Cop.experimental(), workers, experiment).inspection()
+            );
+            experiment.save();
         }
         if (!complaints.isEmpty() && this.failOnError) {
             throw new MojoFailureException(new ComplaintCompound(complaints).message());
@@ -163,25 +236,127 @@ public final class ValidateMojo extends AbstractMojo {
         }
     }
 
+    /**
+     * The tier of facts required by all laws that will be applied.
+     * @param law The regular law
+     * @return The most expensive tier of facts
+     */
+    private Facts facts(final Law law) {
+        final Facts result;
+        if (this.experimental) {
+            result = law.facts().with(Cop.experimental().facts());
+        } else {
+            result = law.facts();
+        }
+        return result;
+    }
+
+    /**
+     * The number of threads to inspect test classes with.
+     * @return The number of threads
+     */
+    private int workers() {
+        final int result;
+        if (this.threads > 0) {
+            result = this.threads;
+        } else {
+            result = Runtime.getRuntime().availableProcessors();
+        }
+        return result;
+    }
+
+    /**
+     * Results of previous inspections.
+     * @param name The name of the law
+     * @param suppressed The suppressed rules
+     * @param facts The tier of facts required by rules
+     * @return Results of previous inspections
+     */
+    private InspectionCache cache(
+        final String name,
+        final Set<String> suppressed,
+        final Facts facts
+    ) {
+        final InspectionCache result;
+        if (this.incremental) {
+            result = new InspectionCacheFileSystem(
+                this.cache.toPath().resolve(String.format("%s.txt", name)),
+                String.join(
+                    ";",
+                    String.valueOf(this.version),
+                    this.javaVersion,
+                    String.valueOf(this.maxNumberOfMocks),
+                    String.valueOf(this.ignoreGeneratedTests),
+                    String.valueOf(this.dependencies),
+                    String.valueOf(this.classloading),
+                    String.valueOf(this.scanner),
+                    new TreeSet<>(suppressed).toString(),
+                    facts.name(),
+                    new InspectionInputs(
+                        Arrays.asList(
+                            Paths.get(this.project.getCompileSourceRoots().get(0)),
+                            Paths.get(this.project.getTestCompileSourceRoots().get(0)),
+                            this.sources.toPath(),
+                            this.tests.toPath()
+                        ),
+                        this.jars()
+                    ).digest()
+                )
+            );
+        } else {
+            result = new InspectionCache.Disabled();
+        }
+        return result;
+    }
+
     /**
      * All projects to validate.
+     * @param suppressed The suppressed rules
+     * @param results Results of previous inspections
+     * @param facts The tier of facts required by rules
      * @return The projects
      */
-    private Collection<Project> projects() {
-        final Set<String> suppressed = this.suppressed();
+    private Collection<Project> projects(
+        final Set<String> suppressed,
+        final InspectionCache results,
+        final Facts facts
+    ) {
         return Stream.concat(
-            this.generated(suppressed),
+            this.generated(suppressed, results, facts),
             Stream.of(
                 new JavaParserProject(
                     Paths.get(this.project.getCompileSourceRoots().get(0)),
                     Paths.get(this.project.getTestCompileSourceRoots().get(0)),
                     suppressed,
-                    this.javaVersion
+                    this.javaVersion,
+                    results,
+                    this.jars(),
+                    this.classloading,
+                    facts
                 )
             )
         ).collect(Collectors.toList());
     }
 
+    /**
+     * Jars of the test classpath used to resolve types.
+     * @return Paths to jars
+     */
+    private Collection<Path> jars() {
+        final Collection<Path> result;
+        if (this.dependencies) {
+            result = this.project.getArtifacts().stream()
+                .map(Artifact::getFile)
+                .filter(Objects::nonNull)
+                .map(File::toPath)
+                .filter(path -> path.toString().endsWith(".jar"))
+                .collect(Collectors.toList());
+        } else {
+            result = Collections.emptyList();
+        }
+        return result;
+    }
+
     /**
      * The suppressed rules.
      * @return The suppressed rules
@@ -197,15 +372,26 @@ public final class ValidateMojo extends AbstractMojo {
     /**
      * The generated projects.
      * @param suppressed The suppressed rules
+     * @param results Results of previous inspections
+     * @param facts The tier of facts required by rules
      * @return The generated projects
      */
-    private Stream<Project> generated(final Set<String> suppressed) {
+    private Stream<Project> generated(
+        final Set<String> suppressed,
+        final InspectionCache results,
+        final Facts facts
+    ) {
         return Stream.of(
-            new BytecodeProject(this.sources, this.tests),
+            new BytecodeProject(this.sources.toPath(), this.tests.toPath(), this.scanner),
             new JavaParserProject(
                 this.sources.toPath(),
                 this.tests.toPath(),
-                suppressed
+                suppressed,
+                "21",
+                results,
+                Collections.emptyList(),
+                false,
+                facts
             )
         ).map(this::generated);
     }
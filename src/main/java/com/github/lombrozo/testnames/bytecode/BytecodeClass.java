@@ -28,12 +28,20 @@ import java.io.DataInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 import javassist.ClassPool;
 import javassist.CtClass;
 import javassist.bytecode.ClassFile;
 
 /**
  * Utility class for parsing bytecode.
+ * <p>
+ * If a class pool is given, the class is materialised by Javassist, which
+ * resolves the class hierarchy, but costs more memory and time. Otherwise,
+ * the class file is read by the lightweight {@link ClassFileScanner}.
+ * The materialised class is detached from the pool right after its
+ * description is copied, so the pool doesn't keep it.
+ * </p>
  *
  * @since 0.1.17
  */
@@ -44,12 +52,27 @@ final class BytecodeClass {
      */
     private final Path path;
 
+    /**
+     * Class pool to materialise classes with, if any.
+     */
+    private final Optional<ClassPool> pool;
+
     /**
      * Constructor.
      * @param bytecode Path to class file.
      */
     BytecodeClass(final Path bytecode) {
+        this(bytecode, Optional.empty());
+    }
+
+    /**
+     * Constructor.
+     * @param bytecode Path to class file.
+     * @param pool Class pool to materialise classes with, if any.
+     */
+    BytecodeClass(final Path bytecode, final Optional<ClassPool> pool) {
         this.path = bytecode;
+        this.pool = pool;
     }
 
     /**
@@ -78,18 +101,36 @@ final class BytecodeClass {
 
     /**
      * Parse class file.
+     * @return Class description.
+     */
+    private ClassDescription parse() {
+        final ClassDescription result;
+        if (this.pool.isPresent()) {
+            final CtClass klass = this.materialise(this.pool.get());
+            final ClassDescription desc = new CtClassDescription(klass);
+            result = new ScannedClass(
+                desc.name(),
+                desc.parent(),
+                desc.interfaces(),
+                desc.fields(),
+                desc.methods(),
+                desc.tests()
+            );
+            klass.detach();
+        } else {
+            result = new ClassFileScanner(this.path).scan();
+        }
+        return result;
+    }
+
+    /**
+     * Materialise class file in the class pool.
+     * @param classes Class pool.
      * @return Class.
      */
-    private CtClass parse() {
-        try {
-            return ClassPool.getDefault()
-                .makeClass(
-                    new ClassFile(
-                        new DataInputStream(
-                            Files.newInputStream(this.path.toFile().toPath())
-                        )
-                    )
-                );
+    private CtClass materialise(final ClassPool classes) {
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(this.path))) {
+            return classes.makeClass(new ClassFile(input));
         } catch (final IOException ex) {
             throw new IllegalStateException(
                 String.format("Can't parse class %s", this.path),
@@ -25,10 +25,9 @@ package com.github.lombrozo.testnames.bytecode;
 
 import com.github.lombrozo.testnames.Field;
 import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Modifier;
 import java.util.Collections;
 import java.util.List;
-import javassist.CtField;
-import javassist.Modifier;
 
 /**
  * Class field in bytecode.
@@ -44,26 +43,33 @@ import javassist.Modifier;
 public final class BytecodeField implements Field {
 
     /**
-     * Field.
+     * Field name.
      */
-    private final CtField field;
+    private final String title;
+
+    /**
+     * Field access flags.
+     */
+    private final int modifiers;
 
     /**
      * Constructor.
-     * @param field Field
+     * @param title Field name.
+     * @param modifiers Field access flags.
      */
-    BytecodeField(final CtField field) {
-        this.field = field;
+    BytecodeField(final String title, final int modifiers) {
+        this.title = title;
+        this.modifiers = modifiers;
     }
 
     @Override
     public String name() {
-        return this.field.getName();
+        return this.title;
     }
 
     @Override
     public boolean isStatic() {
-        return Modifier.isStatic(this.field.getModifiers());
+        return Modifier.isStatic(this.modifiers);
     }
 
     @Override
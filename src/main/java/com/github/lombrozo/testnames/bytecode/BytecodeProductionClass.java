@@ -24,7 +24,6 @@
 package com.github.lombrozo.testnames.bytecode;
 
 import com.github.lombrozo.testnames.ProductionClass;
-import javassist.CtClass;
 
 /**
  * Bytecode production class.
@@ -36,18 +35,18 @@ final class BytecodeProductionClass implements ProductionClass {
     /**
      * Class.
      */
-    private final CtClass klass;
+    private final ClassDescription klass;
 
     /**
      * Constructor.
      * @param klass Class.
      */
-    BytecodeProductionClass(final CtClass klass) {
+    BytecodeProductionClass(final ClassDescription klass) {
         this.klass = klass;
     }
 
     @Override
     public String name() {
-        return this.klass.getSimpleName();
+        return this.klass.simpleName();
     }
 }
@@ -32,12 +32,23 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import javassist.ClassPool;
+import javassist.NotFoundException;
 
 /**
  * Bytecode project.
  * Implementation of {@link Project} interface.
+ * <p>
+ * By default, classes are materialised by Javassist, which resolves the class
+ * hierarchy and counts inherited test methods. Each inspection uses its own
+ * scoped child pool, which looks up project classes first and is released
+ * right after the inspection, so classes of the project never stay in the
+ * given pool. Class files can also be read by a lightweight scanner, which is
+ * faster and lighter, but doesn't resolve the class hierarchy.
+ * </p>
  *
  * @since 0.1.17
  */
@@ -53,6 +64,12 @@ public final class BytecodeProject implements Project {
      */
     private final Path tests;
 
+    /**
+     * Parent of the scoped class pools, if classes are materialised.
+     * Empty if class files are scanned.
+     */
+    private final Optional<ClassPool> pool;
+
     /**
      * Constructor.
      * @param classes Production classes path.
@@ -70,9 +87,52 @@ public final class BytecodeProject implements Project {
     public BytecodeProject(
         final Path classes,
         final Path tests
+    ) {
+        this(classes, tests, false);
+    }
+
+    /**
+     * Constructor.
+     * @param classes Production classes path.
+     * @param tests Test classes path.
+     * @param scan Read class files by the scanner instead of Javassist.
+     */
+    public BytecodeProject(
+        final Path classes,
+        final Path tests,
+        final boolean scan
+    ) {
+        this(classes, tests, BytecodeProject.parent(scan));
+    }
+
+    /**
+     * Constructor.
+     * @param classes Production classes path.
+     * @param tests Test classes path.
+     * @param pool Parent of the scoped class pools to materialise classes with.
+     */
+    public BytecodeProject(
+        final Path classes,
+        final Path tests,
+        final ClassPool pool
+    ) {
+        this(classes, tests, Optional.of(pool));
+    }
+
+    /**
+     * Constructor.
+     * @param classes Production classes path.
+     * @param tests Test classes path.
+     * @param pool Parent of the scoped class pools, if classes are materialised.
+     */
+    private BytecodeProject(
+        final Path classes,
+        final Path tests,
+        final Optional<ClassPool> pool
     ) {
         this.classes = classes;
         this.tests = tests;
+        this.pool = pool;
     }
 
     @Override
@@ -80,7 +140,8 @@ public final class BytecodeProject implements Project {
         final Collection<ProductionClass> res;
         if (Files.exists(this.classes)) {
             try (Stream<Path> stream = Files.walk(this.classes)) {
-                res = stream.map(BytecodeClass::new)
+                final Optional<ClassPool> scoped = this.scoped();
+                res = stream.map(path -> new BytecodeClass(path, scoped))
                     .filter(BytecodeClass::isClass)
                     .map(BytecodeClass::toProductionClass)
                     .collect(Collectors.toList());
@@ -98,13 +159,21 @@ public final class BytecodeProject implements Project {
 
     @Override
     public Collection<TestClass> testClasses() {
-        final Collection<TestClass> result;
+        try (Stream<TestClass> stream = this.tests()) {
+            return stream.collect(Collectors.toList());
+        }
+    }
+
+    @Override
+    public Stream<TestClass> tests() {
+        final Stream<TestClass> result;
         if (Files.exists(this.tests)) {
-            try (Stream<Path> stream = Files.walk(this.tests)) {
-                result = stream.map(BytecodeClass::new)
+            try {
+                final Optional<ClassPool> scoped = this.scoped();
+                result = Files.walk(this.tests)
+                    .map(path -> new BytecodeClass(path, scoped))
                     .filter(BytecodeClass::isClass)
-                    .map(BytecodeClass::toTest)
-                    .collect(Collectors.toList());
+                    .map(BytecodeClass::toTest);
             } catch (final IOException ex) {
                 throw new IllegalStateException(
                     String.format("Can't read test classes from %s", this.tests),
@@ -112,7 +181,56 @@ public final class BytecodeProject implements Project {
                 );
             }
         } else {
-            result = Collections.emptyList();
+            result = Stream.empty();
+        }
+        return result;
+    }
+
+    /**
+     * Class pool for a single inspection.
+     * It looks up classes in the project directories first and then in the
+     * parent pool. Nobody keeps the scoped pool after the inspection, so it is
+     * garbage collected together with all the classes it has loaded.
+     * @return Scoped class pool, if classes are materialised.
+     */
+    private Optional<ClassPool> scoped() {
+        return this.pool.map(
+            parent -> {
+                final ClassPool child = new ClassPool(parent);
+                child.childFirstLookup = true;
+                try {
+                    if (Files.exists(this.classes)) {
+                        child.appendClassPath(this.classes.toString());
+                    }
+                    if (Files.exists(this.tests)) {
+                        child.appendClassPath(this.tests.toString());
+                    }
+                } catch (final NotFoundException ex) {
+                    throw new IllegalStateException(
+                        String.format(
+                            "Can't add %s and %s to the class pool",
+                            this.classes,
+                            this.tests
+                        ),
+                        ex
+                    );
+                }
+                return child;
+            }
+        );
+    }
+
+    /**
+     * Parent of the scoped class pools.
+     * @param scan Whether class files are scanned instead.
+     * @return The JVM-wide default pool, or empty if class files are scanned.
+     */
+    private static Optional<ClassPool> parent(final boolean scan) {
+        final Optional<ClassPool> result;
+        if (scan) {
+            result = Optional.empty();
+        } else {
+            result = Optional.of(ClassPool.getDefault());
         }
         return result;
     }
@@ -28,11 +28,8 @@ import com.github.lombrozo.testnames.TestCase;
 import com.github.lombrozo.testnames.TestClass;
 import com.github.lombrozo.testnames.TestClassCharacteristics;
 import java.nio.file.Path;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.stream.Collectors;
-import javassist.CtClass;
 
 /**
  * Bytecode test class.
@@ -49,7 +46,12 @@ final class BytecodeTestClass implements TestClass {
     /**
      * Pared class.
      */
-    private final CtClass klass;
+    private final ClassDescription klass;
+
+    /**
+     * Characteristics of the class.
+     */
+    private final TestClassCharacteristics props;
 
     /**
      * Constructor.
@@ -58,22 +60,21 @@ final class BytecodeTestClass implements TestClass {
      */
     BytecodeTestClass(
         final Path path,
-        final CtClass clazz
+        final ClassDescription clazz
     ) {
         this.file = path;
         this.klass = clazz;
+        this.props = new BytecodeTestClassCharacteristics(clazz);
     }
 
     @Override
     public Collection<Field> fields() {
-        return Arrays.stream(this.klass.getDeclaredFields())
-            .map(BytecodeField::new)
-            .collect(Collectors.toList());
+        return this.klass.fields();
     }
 
     @Override
     public String name() {
-        return this.klass.getSimpleName();
+        return this.klass.simpleName();
     }
 
     @Override
@@ -93,6 +94,6 @@ final class BytecodeTestClass implements TestClass {
 
     @Override
     public TestClassCharacteristics characteristics() {
-        return new BytecodeTestClassCharacteristics(this.klass);
+        return this.props;
     }
 }
@@ -25,13 +25,7 @@ package com.github.lombrozo.testnames.bytecode;
 
 import com.github.lombrozo.testnames.JUnitExtension;
 import com.github.lombrozo.testnames.TestClassCharacteristics;
-import java.util.Arrays;
 import java.util.stream.Stream;
-import javassist.CtClass;
-import javassist.CtMethod;
-import javassist.NotFoundException;
-import org.junit.jupiter.api.Test;
-import org.junit.jupiter.params.ParameterizedTest;
 
 /**
  * Test class characteristics from bytecode.
@@ -43,79 +37,45 @@ final class BytecodeTestClassCharacteristics implements TestClassCharacteristics
     /**
      * Parsed class.
      */
-    private final CtClass klass;
+    private final ClassDescription klass;
 
     /**
      * Constructor.
      * @param klass Parsed class.
      */
-    BytecodeTestClassCharacteristics(final CtClass klass) {
+    BytecodeTestClassCharacteristics(final ClassDescription klass) {
         this.klass = klass;
     }
 
     @Override
     public boolean isJUnitExtension() {
-        try {
-            return Stream
-                .concat(
-                    Arrays.stream(this.klass.getInterfaces()),
-                    Stream.of(this.klass.getSuperclass())
-                )
-                .map(CtClass::getName)
-                .map(JUnitExtension::new)
-                .anyMatch(JUnitExtension::isJUnitExtension);
-        } catch (final NotFoundException ex) {
-            throw new IllegalStateException(
-                String.format(
-                    "Can't get interfaces or parent of class %s",
-                    this.klass.getName()
-                ),
-                ex
-            );
-        }
+        return Stream
+            .concat(
+                this.klass.interfaces().stream(),
+                Stream.of(this.klass.parent())
+            )
+            .map(JUnitExtension::new)
+            .anyMatch(JUnitExtension::isJUnitExtension);
     }
 
     @Override
     public boolean isIntegrationTest() {
-        final String pckg = this.klass.getPackageName();
+        final String pckg = this.klass.packageName();
         return pckg.endsWith(".it") || "it".equals(pckg);
     }
 
     @Override
     public int numberOfTests() {
-        return (int) Arrays.stream(this.klass.getMethods())
-            .filter(BytecodeTestClassCharacteristics::isTest)
-            .count();
+        return this.klass.tests();
     }
 
     @Override
     public int numberOfMethods() {
-        return this.klass.getDeclaredMethods().length;
+        return this.klass.methods();
     }
 
     @Override
     public String parent() {
-        try {
-            return this.klass.getSuperclass().getName();
-        } catch (final NotFoundException exception) {
-            throw new IllegalStateException(
-                String.format(
-                    "Can't get parent of class %s",
-                    this.klass.getName()
-                ),
-                exception
-            );
-        }
-    }
-
-    /**
-     * Checks whether a method is test-method.
-     * @param method To check.
-     * @return True if the method is test-method.
-     */
-    private static boolean isTest(final CtMethod method) {
-        return method.hasAnnotation(Test.class)
-            || method.hasAnnotation(ParameterizedTest.class);
+        return this.klass.parent();
     }
 }
-
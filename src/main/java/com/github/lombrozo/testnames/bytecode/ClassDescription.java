@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.bytecode;
+
+import com.github.lombrozo.testnames.Field;
+import java.util.Collection;
+
+/**
+ * Description of a compiled class.
+ * Everything the bytecode project needs to know about a class file.
+ *
+ * @since 1.5
+ */
+interface ClassDescription {
+
+    /**
+     * Fully qualified name of the class.
+     * @return Name with dots, like "com.example.Foo".
+     */
+    String name();
+
+    /**
+     * Simple name of the class.
+     * @return Name without a package.
+     */
+    String simpleName();
+
+    /**
+     * Package of the class.
+     * @return Package name or empty string for the default package.
+     */
+    String packageName();
+
+    /**
+     * Fully qualified name of the parent class.
+     * @return Parent name.
+     */
+    String parent();
+
+    /**
+     * Fully qualified names of the implemented interfaces.
+     * @return Interface names.
+     */
+    Collection<String> interfaces();
+
+    /**
+     * Declared fields.
+     * @return Fields.
+     */
+    Collection<Field> fields();
+
+    /**
+     * Number of declared methods, without constructors and initializers.
+     * @return Number of methods.
+     */
+    int methods();
+
+    /**
+     * Number of test methods.
+     * @return Number of methods annotated with {@code @Test} or {@code @ParameterizedTest}.
+     */
+    int tests();
+}
@@ -0,0 +1,361 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.bytecode;
+
+import com.github.lombrozo.testnames.Field;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+
+/**
+ * Lightweight class file scanner.
+ * <p>
+ * Reads the constant pool, the class header, fields and method annotations
+ * directly from a class file as described in the JVM specification, chapter 4.
+ * Method bodies and all other attributes are skipped without being copied,
+ * and no Javassist {@code CtClass} is created, so scanning is much cheaper
+ * than {@link CtClassDescription}. The price is that the class hierarchy
+ * isn't resolved: only declared test methods are counted.
+ * </p>
+ *
+ * @since 1.5
+ */
+final class ClassFileScanner {
+
+    /**
+     * Magic number of a class file.
+     */
+    private static final int MAGIC = 0xCAFEBABE;
+
+    /**
+     * Descriptor of the JUnit test annotation.
+     */
+    private static final String TEST = ClassFileScanner.descriptor(Test.class);
+
+    /**
+     * Descriptor of the JUnit parameterized test annotation.
+     */
+    private static final String PARAMETERIZED =
+        ClassFileScanner.descriptor(ParameterizedTest.class);
+
+    /**
+     * Name of the attribute with runtime visible annotations.
+     */
+    private static final String ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    /**
+     * Path to the class file.
+     */
+    private final Path path;
+
+    /**
+     * Constructor.
+     * @param path Path to the class file.
+     */
+    ClassFileScanner(final Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Scan the class file.
+     * @return Class description.
+     */
+    ScannedClass scan() {
+        try (InputStream stream = new BufferedInputStream(Files.newInputStream(this.path))) {
+            return ClassFileScanner.scan(new DataInputStream(stream));
+        } catch (final IOException | IllegalStateException ex) {
+            throw new IllegalStateException(
+                String.format("Can't scan class %s", this.path),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Scan the class file from the stream.
+     * @param input Class file content.
+     * @return Class description.
+     * @throws IOException If the class file can't be read.
+     */
+    private static ScannedClass scan(final DataInputStream input) throws IOException {
+        if (input.readInt() != ClassFileScanner.MAGIC) {
+            throw new IllegalStateException("Not a class file");
+        }
+        input.readUnsignedShort();
+        input.readUnsignedShort();
+        final ConstantPool pool = new ConstantPool(input);
+        input.readUnsignedShort();
+        final String name = pool.className(input.readUnsignedShort());
+        final int sup = input.readUnsignedShort();
+        final String parent;
+        if (sup == 0) {
+            parent = "";
+        } else {
+            parent = pool.className(sup);
+        }
+        final int count = input.readUnsignedShort();
+        final Collection<String> interfaces = new ArrayList<>(count);
+        for (int idx = 0; idx < count; ++idx) {
+            interfaces.add(pool.className(input.readUnsignedShort()));
+        }
+        final int size = input.readUnsignedShort();
+        final Collection<Field> fields = new ArrayList<>(size);
+        for (int idx = 0; idx < size; ++idx) {
+            final int modifiers = input.readUnsignedShort();
+            fields.add(new BytecodeField(pool.utf(input.readUnsignedShort()), modifiers));
+            input.readUnsignedShort();
+            ClassFileScanner.skipAttributes(input);
+        }
+        final int all = input.readUnsignedShort();
+        int methods = 0;
+        int tests = 0;
+        for (int idx = 0; idx < all; ++idx) {
+            input.readUnsignedShort();
+            final String method = pool.utf(input.readUnsignedShort());
+            input.readUnsignedShort();
+            if (ClassFileScanner.isTest(input, pool)) {
+                ++tests;
+            }
+            if (method.charAt(0) != '<') {
+                ++methods;
+            }
+        }
+        return new ScannedClass(name, parent, interfaces, fields, methods, tests);
+    }
+
+    /**
+     * Read method attributes and check whether the method is a test.
+     * @param input Stream positioned at the attributes count.
+     * @param pool Constant pool.
+     * @return True if the method is annotated as a test.
+     * @throws IOException If the class file can't be read.
+     */
+    private static boolean isTest(
+        final DataInputStream input,
+        final ConstantPool pool
+    ) throws IOException {
+        final int count = input.readUnsignedShort();
+        boolean test = false;
+        for (int idx = 0; idx < count; ++idx) {
+            final String attribute = pool.utf(input.readUnsignedShort());
+            final int length = input.readInt();
+            if (ClassFileScanner.ANNOTATIONS.equals(attribute)) {
+                final int annotations = input.readUnsignedShort();
+                for (int ann = 0; ann < annotations; ++ann) {
+                    final String type = pool.utf(input.readUnsignedShort());
+                    test = test || ClassFileScanner.TEST.equals(type)
+                        || ClassFileScanner.PARAMETERIZED.equals(type);
+                    ClassFileScanner.skipPairs(input);
+                }
+            } else {
+                ClassFileScanner.skip(input, length);
+            }
+        }
+        return test;
+    }
+
+    /**
+     * Skip all attributes of a class member.
+     * @param input Stream positioned at the attributes count.
+     * @throws IOException If the class file can't be read.
+     */
+    private static void skipAttributes(final DataInputStream input) throws IOException {
+        final int count = input.readUnsignedShort();
+        for (int idx = 0; idx < count; ++idx) {
+            input.readUnsignedShort();
+            ClassFileScanner.skip(input, input.readInt());
+        }
+    }
+
+    /**
+     * Skip element-value pairs of an annotation.
+     * @param input Stream positioned at the pairs count.
+     * @throws IOException If the class file can't be read.
+     */
+    private static void skipPairs(final DataInputStream input) throws IOException {
+        final int pairs = input.readUnsignedShort();
+        for (int idx = 0; idx < pairs; ++idx) {
+            input.readUnsignedShort();
+            ClassFileScanner.skipValue(input);
+        }
+    }
+
+    /**
+     * Skip an annotation element value.
+     * @param input Stream positioned at the value tag.
+     * @throws IOException If the class file can't be read.
+     */
+    private static void skipValue(final DataInputStream input) throws IOException {
+        final int tag = input.readUnsignedByte();
+        switch (tag) {
+            case 'e':
+                ClassFileScanner.skip(input, 4);
+                break;
+            case '@':
+                input.readUnsignedShort();
+                ClassFileScanner.skipPairs(input);
+                break;
+            case '[':
+                final int values = input.readUnsignedShort();
+                for (int idx = 0; idx < values; ++idx) {
+                    ClassFileScanner.skipValue(input);
+                }
+                break;
+            default:
+                ClassFileScanner.skip(input, 2);
+                break;
+        }
+    }
+
+    /**
+     * Skip bytes of the stream.
+     * @param input Stream.
+     * @param length Number of bytes to skip.
+     * @throws IOException If the class file can't be read.
+     */
+    private static void skip(final DataInputStream input, final int length)
+        throws IOException {
+        int left = length;
+        while (left > 0) {
+            final int skipped = input.skipBytes(left);
+            if (skipped <= 0) {
+                throw new EOFException("Unexpected end of class file");
+            }
+            left -= skipped;
+        }
+    }
+
+    /**
+     * Field descriptor of an annotation type.
+     * @param type Annotation type.
+     * @return Descriptor, like "Lorg/junit/jupiter/api/Test;".
+     */
+    private static String descriptor(final Class<?> type) {
+        return String.format("L%s;", type.getName().replace('.', '/'));
+    }
+
+    /**
+     * Constant pool of a class file.
+     * Keeps only UTF-8 entries and class references, all other entries
+     * are skipped.
+     *
+     * @since 1.5
+     */
+    private static final class ConstantPool {
+
+        /**
+         * UTF-8 entries by index.
+         */
+        private final String[] utfs;
+
+        /**
+         * Name indexes of class entries by index.
+         */
+        private final int[] classes;
+
+        /**
+         * Constructor.
+         * @param input Stream positioned at the constant pool count.
+         * @throws IOException If the class file can't be read.
+         * @checkstyle CyclomaticComplexityCheck (50 lines)
+         */
+        @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
+        ConstantPool(final DataInputStream input) throws IOException {
+            final int count = input.readUnsignedShort();
+            this.utfs = new String[count];
+            this.classes = new int[count];
+            for (int idx = 1; idx < count; ++idx) {
+                final int tag = input.readUnsignedByte();
+                switch (tag) {
+                    case 1:
+                        this.utfs[idx] = input.readUTF();
+                        break;
+                    case 7:
+                        this.classes[idx] = input.readUnsignedShort();
+                        break;
+                    case 8:
+                    case 16:
+                    case 19:
+                    case 20:
+                        ClassFileScanner.skip(input, 2);
+                        break;
+                    case 15:
+                        ClassFileScanner.skip(input, 3);
+                        break;
+                    case 3:
+                    case 4:
+                    case 9:
+                    case 10:
+                    case 11:
+                    case 12:
+                    case 17:
+                    case 18:
+                        ClassFileScanner.skip(input, 4);
+                        break;
+                    case 5:
+                    case 6:
+                        ClassFileScanner.skip(input, 8);
+                        ++idx;
+                        break;
+                    default:
+                        throw new IllegalStateException(
+                            String.format("Unknown constant pool tag %d at %d", tag, idx)
+                        );
+                }
+            }
+        }
+
+        /**
+         * UTF-8 entry.
+         * @param index Index in the constant pool.
+         * @return String value.
+         */
+        String utf(final int index) {
+            final String result = this.utfs[index];
+            if (result == null) {
+                throw new IllegalStateException(
+                    String.format("Constant pool entry %d isn't a UTF-8 string", index)
+                );
+            }
+            return result;
+        }
+
+        /**
+         * Fully qualified name of a class entry.
+         * @param index Index of the class entry in the constant pool.
+         * @return Name with dots, like "com.example.Foo".
+         */
+        String className(final int index) {
+            return this.utf(this.classes[index]).replace('/', '.');
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.bytecode;
+
+import com.github.lombrozo.testnames.Field;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import javassist.CtClass;
+import javassist.CtMethod;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+
+/**
+ * Description of a class materialised by Javassist.
+ * Resolves the class hierarchy through the class pool, so the number of tests
+ * includes inherited test methods. Names of the parent and interfaces are
+ * taken from the class file as is, without resolving them.
+ *
+ * @since 1.5
+ */
+final class CtClassDescription implements ClassDescription {
+
+    /**
+     * Parsed class.
+     */
+    private final CtClass klass;
+
+    /**
+     * Constructor.
+     * @param klass Parsed class.
+     */
+    CtClassDescription(final CtClass klass) {
+        this.klass = klass;
+    }
+
+    @Override
+    public String name() {
+        return this.klass.getName();
+    }
+
+    @Override
+    public String simpleName() {
+        return this.klass.getSimpleName();
+    }
+
+    @Override
+    public String packageName() {
+        return Optional.ofNullable(this.klass.getPackageName()).orElse("");
+    }
+
+    @Override
+    public String parent() {
+        return Optional.ofNullable(this.klass.getClassFile2().getSuperclass()).orElse("");
+    }
+
+    @Override
+    public Collection<String> interfaces() {
+        return Arrays.asList(this.klass.getClassFile2().getInterfaces());
+    }
+
+    @Override
+    public Collection<Field> fields() {
+        return Arrays.stream(this.klass.getDeclaredFields())
+            .map(field -> new BytecodeField(field.getName(), field.getModifiers()))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public int methods() {
+        return this.klass.getDeclaredMethods().length;
+    }
+
+    @Override
+    public int tests() {
+        return (int) Arrays.stream(this.klass.getMethods())
+            .filter(CtClassDescription::isTest)
+            .count();
+    }
+
+    /**
+     * Checks whether a method is test-method.
+     * @param method To check.
+     * @return True if the method is test-method.
+     */
+    private static boolean isTest(final CtMethod method) {
+        return method.hasAnnotation(Test.class)
+            || method.hasAnnotation(ParameterizedTest.class);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.bytecode;
+
+import com.github.lombrozo.testnames.Field;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Description of a class read by {@link ClassFileScanner}.
+ * Keeps only names and counters, so it is much lighter than a Javassist class.
+ *
+ * @since 1.5
+ */
+final class ScannedClass implements ClassDescription {
+
+    /**
+     * Fully qualified name.
+     */
+    private final String klass;
+
+    /**
+     * Fully qualified name of the parent class.
+     */
+    private final String base;
+
+    /**
+     * Fully qualified names of the implemented interfaces.
+     */
+    private final Collection<String> implemented;
+
+    /**
+     * Declared fields.
+     */
+    private final Collection<Field> declared;
+
+    /**
+     * Number of declared methods.
+     */
+    private final int total;
+
+    /**
+     * Number of declared test methods.
+     */
+    private final int cases;
+
+    /**
+     * Constructor.
+     * @param klass Fully qualified name.
+     * @param base Fully qualified name of the parent class.
+     * @param implemented Fully qualified names of the implemented interfaces.
+     * @param declared Declared fields.
+     * @param total Number of declared methods.
+     * @param cases Number of declared test methods.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    ScannedClass(
+        final String klass,
+        final String base,
+        final Collection<String> implemented,
+        final Collection<Field> declared,
+        final int total,
+        final int cases
+    ) {
+        this.klass = klass;
+        this.base = base;
+        this.implemented = Collections.unmodifiableCollection(implemented);
+        this.declared = Collections.unmodifiableCollection(declared);
+        this.total = total;
+        this.cases = cases;
+    }
+
+    @Override
+    public String name() {
+        return this.klass;
+    }
+
+    @Override
+    public String simpleName() {
+        return this.klass.substring(this.klass.lastIndexOf('.') + 1);
+    }
+
+    @Override
+    public String packageName() {
+        final int dot = this.klass.lastIndexOf('.');
+        final String result;
+        if (dot < 0) {
+            result = "";
+        } else {
+            result = this.klass.substring(0, dot);
+        }
+        return result;
+    }
+
+    @Override
+    public String parent() {
+        return this.base;
+    }
+
+    @Override
+    public Collection<String> interfaces() {
+        return this.implemented;
+    }
+
+    @Override
+    public Collection<Field> fields() {
+        return this.declared;
+    }
+
+    @Override
+    public int methods() {
+        return this.total;
+    }
+
+    @Override
+    public int tests() {
+        return this.cases;
+    }
+}
@@ -42,6 +42,11 @@ import java.util.stream.Collectors;
  */
 public final class AssertionOfHamcrest implements ParsedAssertion {
 
+    /**
+     * Hamcrest assertions.
+     */
+    private static final Set<String> ALLOWED = Collections.singleton("assertThat");
+
     /**
      * The method call.
      */
@@ -59,7 +64,7 @@ public final class AssertionOfHamcrest implements ParsedAssertion {
      */
     AssertionOfHamcrest(final MethodCallExpr call) {
         this.method = call;
-        this.allowed = Collections.singleton("assertThat");
+        this.allowed = AssertionOfHamcrest.ALLOWED;
     }
 
     @Override
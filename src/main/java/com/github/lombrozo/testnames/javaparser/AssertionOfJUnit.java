@@ -29,9 +29,12 @@ import com.github.javaparser.ast.expr.MethodCallExpr;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Assertions;
@@ -46,7 +49,16 @@ final class AssertionOfJUnit implements ParsedAssertion {
     /**
      * Special assertions that we consider as assertions with messages.
      */
-    private static final String[] SPECIAL = {"assertAll", "fail"};
+    private static final Set<String> SPECIAL = Collections.unmodifiableSet(
+        new HashSet<>(Arrays.asList("assertAll", "fail"))
+    );
+
+    /**
+     * All JUnit assertions.
+     * The key is the method name, the value is the minimum number of arguments.
+     * Computed only once, since reflection over {@link Assertions} is expensive.
+     */
+    private static final Map<String, Integer> ASSERTIONS = AssertionOfJUnit.allowedJUnitNames();
 
     /**
      * The `assert` regex.
@@ -70,7 +82,7 @@ final class AssertionOfJUnit implements ParsedAssertion {
      * @param method The method call.
      */
     AssertionOfJUnit(final MethodCallExpr method) {
-        this(method, AssertionOfJUnit.allowedJUnitNames());
+        this(method, AssertionOfJUnit.ASSERTIONS);
     }
 
     /**
@@ -86,7 +98,7 @@ final class AssertionOfJUnit implements ParsedAssertion {
 
     @Override
     public boolean isAssertion() {
-        return this.allowed.containsKey(this.call.getName().toString());
+        return this.allowed.containsKey(this.call.getNameAsString());
     }
 
     @Override
@@ -94,10 +106,11 @@ final class AssertionOfJUnit implements ParsedAssertion {
         final Optional<String> result;
         final NodeList<Expression> args = this.call.getArguments();
         final Optional<Expression> last = args.getLast();
-        final Integer min = this.allowed.get(this.call.getName().toString());
-        if (Arrays.asList(AssertionOfJUnit.SPECIAL).contains(this.call.getName().toString())) {
+        final String name = this.call.getNameAsString();
+        final Integer min = this.allowed.get(name);
+        if (AssertionOfJUnit.SPECIAL.contains(name)) {
             result = new UnknownMessage().message();
-        } else if (min < args.size() && last.isPresent()) {
+        } else if (min != null && min < args.size() && last.isPresent()) {
             result = new StringExpression(last.get()).asString();
         } else {
             result = Optional.empty();
@@ -134,9 +147,11 @@ final class AssertionOfJUnit implements ParsedAssertion {
      * @return The allowed JUnit methods.
      */
     private static Map<String, Integer> allowedJUnitNames() {
-        return Arrays.stream(Assertions.class.getMethods())
-            .filter(AssertionOfJUnit::isAssertion)
-            .collect(Collectors.toMap(Method::getName, Method::getParameterCount, Math::min));
+        return Collections.unmodifiableMap(
+            Arrays.stream(Assertions.class.getMethods())
+                .filter(AssertionOfJUnit::isAssertion)
+                .collect(Collectors.toMap(Method::getName, Method::getParameterCount, Math::min))
+        );
     }
 
     /**
@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.javaparser.resolution.cache.Cache;
+import com.github.javaparser.resolution.cache.CacheStats;
+import com.github.javaparser.symbolsolver.cache.DefaultCacheStats;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Thread-safe cache of resolved symbols with limited size.
+ * When the limit is reached, the least recently used value is evicted.
+ *
+ * @param <K> Type of keys.
+ * @param <V> Type of values.
+ * @since 1.5
+ */
+final class BoundedCache<K, V> implements Cache<K, V> {
+
+    /**
+     * Cached values in the access order.
+     */
+    private final Map<K, V> values;
+
+    /**
+     * Number of cache hits.
+     */
+    private long hits;
+
+    /**
+     * Number of cache misses.
+     */
+    private long misses;
+
+    /**
+     * Number of evicted values.
+     */
+    private long evictions;
+
+    /**
+     * Ctor.
+     * @param limit Max number of cached values.
+     */
+    @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
+    BoundedCache(final int limit) {
+        this.values = new LinkedHashMap<K, V>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                final boolean full = this.size() > limit;
+                if (full) {
+                    BoundedCache.this.evictions += 1;
+                }
+                return full;
+            }
+        };
+    }
+
+    @Override
+    public synchronized void put(final K key, final V value) {
+        this.values.put(key, value);
+    }
+
+    @Override
+    public synchronized Optional<V> get(final K key) {
+        final Optional<V> result = Optional.ofNullable(this.values.get(key));
+        if (result.isPresent()) {
+            this.hits += 1;
+        } else {
+            this.misses += 1;
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized void remove(final K key) {
+        this.values.remove(key);
+    }
+
+    @Override
+    public synchronized void removeAll() {
+        this.values.clear();
+    }
+
+    @Override
+    public synchronized boolean contains(final K key) {
+        return this.values.containsKey(key);
+    }
+
+    @Override
+    public synchronized long size() {
+        return this.values.size();
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        return this.values.isEmpty();
+    }
+
+    @Override
+    public synchronized CacheStats stats() {
+        return new DefaultCacheStats(this.hits, this.misses, 0L, 0L, 0L, this.evictions);
+    }
+}
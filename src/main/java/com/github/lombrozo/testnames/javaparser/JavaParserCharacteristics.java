@@ -25,53 +25,140 @@ package com.github.lombrozo.testnames.javaparser;
 
 import com.github.lombrozo.testnames.JUnitExtension;
 import com.github.lombrozo.testnames.TestClassCharacteristics;
+import java.util.Iterator;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
 
 /**
  * JavaParser implementation of {@link TestClassCharacteristics}.
+ * Each characteristic is computed lazily, only once, and is safe to read
+ * from several threads. Both numbers of methods are counted in one pass.
  *
  * @since 0.1.19
  */
 final class JavaParserCharacteristics implements TestClassCharacteristics {
 
     /**
-     * JavaParser parsed class.
+     * Whether the class is a JUnit extension.
      */
-    private final JavaParserClass klass;
+    private final Unchecked<Boolean> extension;
+
+    /**
+     * Whether the class is an integration test.
+     */
+    private final Unchecked<Boolean> integration;
+
+    /**
+     * Numbers of test methods and of all methods.
+     */
+    private final Unchecked<Counts> counts;
+
+    /**
+     * The parent class name.
+     */
+    private final Unchecked<String> base;
 
     /**
      * Constructor.
      * @param klass JavaParser parsed class.
      */
     JavaParserCharacteristics(final JavaParserClass klass) {
-        this.klass = klass;
+        this(klass, new TypeNames());
+    }
+
+    /**
+     * Constructor.
+     * @param klass JavaParser parsed class.
+     * @param names Resolution of type names.
+     */
+    JavaParserCharacteristics(final JavaParserClass klass, final TypeNames names) {
+        this.extension = JavaParserCharacteristics.once(
+            () -> klass.parents(names).stream()
+                .map(JUnitExtension::new)
+                .anyMatch(JUnitExtension::isJUnitExtension)
+        );
+        this.integration = JavaParserCharacteristics.once(
+            () -> klass.pckg()
+                .map(pckg -> pckg.endsWith(".it") || "it".equals(pckg))
+                .orElse(false)
+        );
+        this.counts = JavaParserCharacteristics.once(() -> new Counts(klass));
+        this.base = JavaParserCharacteristics.once(klass::superclass);
     }
 
     @Override
     public boolean isJUnitExtension() {
-        return this.klass.parents().stream()
-            .map(JUnitExtension::new)
-            .anyMatch(JUnitExtension::isJUnitExtension);
+        return this.extension.value();
     }
 
     @Override
     public boolean isIntegrationTest() {
-        return this.klass.pckg()
-            .map(pckg -> pckg.endsWith(".it") || "it".equals(pckg))
-            .orElse(false);
+        return this.integration.value();
     }
 
     @Override
     public int numberOfTests() {
-        return (int) this.klass.methods(new TestsOnly()).count();
+        return this.counts.value().tests;
     }
 
     @Override
     public int numberOfMethods() {
-        return (int) this.klass.methods().count();
+        return this.counts.value().methods;
     }
 
     @Override
     public String parent() {
-        return this.klass.superclass();
+        return this.base.value();
+    }
+
+    /**
+     * Value that is computed only once.
+     * @param scalar How to compute the value.
+     * @param <T> Type of the value.
+     * @return Thread-safe memoized value.
+     */
+    private static <T> Unchecked<T> once(final Scalar<T> scalar) {
+        return new Unchecked<>(new Synced<>(new Sticky<>(scalar)));
+    }
+
+    /**
+     * Numbers of test methods and of all methods of a class.
+     *
+     * @since 1.5
+     */
+    private static final class Counts {
+
+        /**
+         * Number of test methods.
+         */
+        private final int tests;
+
+        /**
+         * Number of all methods.
+         */
+        private final int methods;
+
+        /**
+         * Constructor.
+         * Counts methods in a single pass over the class.
+         * @param klass JavaParser parsed class.
+         */
+        @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
+        Counts(final JavaParserClass klass) {
+            final TestsOnly test = new TestsOnly();
+            int all = 0;
+            int cases = 0;
+            final Iterator<JavaParserMethod> iter = klass.methods().iterator();
+            while (iter.hasNext()) {
+                ++all;
+                if (test.test(iter.next().asMethodDeclaration())) {
+                    ++cases;
+                }
+            }
+            this.methods = all;
+            this.tests = cases;
+        }
     }
 }
@@ -23,8 +23,6 @@
  */
 package com.github.lombrozo.testnames.javaparser;
 
-import com.github.javaparser.ParserConfiguration;
-import com.github.javaparser.StaticJavaParser;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.ImportDeclaration;
 import com.github.javaparser.ast.Node;
@@ -39,9 +37,7 @@ import com.github.javaparser.ast.nodeTypes.NodeWithName;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
 import com.github.javaparser.resolution.SymbolResolver;
 import com.github.lombrozo.testnames.Field;
-import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
@@ -50,7 +46,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.function.Predicate;
-import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -96,7 +91,7 @@ final class JavaParserClass {
     * @param level Language level.
      */
     JavaParserClass(final Path path, final SymbolResolver resolver, final String level) {
-        this(JavaParserClass.parse(path, resolver, level));
+        this(path, new SourceParser(resolver, level));
     }
 
     /**
@@ -107,7 +102,17 @@ final class JavaParserClass {
     * @param level Language level.
      */
     JavaParserClass(final InputStream stream, final SymbolResolver resolver, final String level) {
-        this(JavaParserClass.parse(stream, resolver, level));
+        this(new SourceParser(resolver, level).parse(stream));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param path Path to java class.
+     * @param parser Java source parser.
+     */
+    JavaParserClass(final Path path, final SourceParser parser) {
+        this(parser.parse(path));
     }
 
     /**
@@ -189,20 +194,28 @@ final class JavaParserClass {
     }
 
     /**
-     * Returns all parents of the class.
+     * Returns fully qualified names of all interfaces the class implements.
+     * Names are resolved from the source code, classes are loaded only if
+     * {@link TypeNames} allows it.
      *
+     * @param names Resolution of type names.
      * @return All parents of the class.
      */
-    Collection<Class<?>> parents() {
-        final Collection<String> all = this.imports();
-        return this.implement().getImplementedTypes().stream()
-            .filter(ClassOrInterfaceType::isClassOrInterfaceType)
-            .map(ClassOrInterfaceType::getNameWithScope)
-            .map(name -> all.stream().filter(s -> s.contains(name)).findFirst().orElse(name))
-            .map(this::load)
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .collect(Collectors.toList());
+    Collection<String> parents(final TypeNames names) {
+        final List<ClassOrInterfaceType> types = this.implement().getImplementedTypes();
+        final Collection<String> result;
+        if (types.isEmpty()) {
+            result = Collections.emptyList();
+        } else {
+            final Collection<ImportDeclaration> all = this.imports();
+            final Optional<String> pckg = this.pckg();
+            result = types.stream()
+                .filter(ClassOrInterfaceType::isClassOrInterfaceType)
+                .map(ClassOrInterfaceType::getNameWithScope)
+                .map(name -> names.resolved(name, all, pckg))
+                .collect(Collectors.toList());
+        }
+        return result;
     }
 
     /**
@@ -279,43 +292,15 @@ final class JavaParserClass {
             && "empty".equals(this.cast().getNameAsString());
     }
 
-    /**
-     * Loads class from the classpath.
-     *
-     * @param name Name of the class.
-     * @return Loaded class.
-     */
-    private Optional<Class<?>> load(final String name) {
-        Optional<Class<?>> res;
-        try {
-            res = Optional.ofNullable(
-                Thread.currentThread().getContextClassLoader().loadClass(name)
-            );
-        } catch (final ClassNotFoundException ex) {
-            Logger.getLogger(this.getClass().getName())
-                .warning(
-                    String.format("Can't find class %s in classpath", name)
-                );
-            res = Optional.empty();
-        }
-        return res;
-    }
-
     /**
      * All the imports of the current class.
      *
      * @return All the imports of the current class.
      */
-    private Collection<String> imports() {
+    private Collection<ImportDeclaration> imports() {
         return this.klass
             .getParentNode()
-            .map(
-                node -> ((CompilationUnit) node)
-                    .getImports()
-                    .stream()
-                    .map(ImportDeclaration::getNameAsString)
-                    .collect(Collectors.toList())
-            )
+            .map(node -> (Collection<ImportDeclaration>) ((CompilationUnit) node).getImports())
             .orElse(Collections.emptyList());
     }
 
@@ -370,112 +355,4 @@ final class JavaParserClass {
         }
         return all.element();
     }
-
-    /**
-     * Parse java by path.
-     *
-     * @param path Path to java file
-     * @param resolver Symbol resolver.
-     * @param level Language level.
-     * @return Compilation unit.
-     */
-    private static CompilationUnit parse(
-        final Path path,
-        final SymbolResolver resolver,
-        final String level
-    ) {
-        try {
-            StaticJavaParser.getParserConfiguration()
-                .setSymbolResolver(resolver)
-                .setLanguageLevel(JavaParserClass.languageLevel(level));
-            return JavaParserClass.parse(Files.newInputStream(path), resolver, level);
-        } catch (final IOException ex) {
-            throw new IllegalStateException(
-                String.format("Can't parse java file: %s", path.toAbsolutePath()),
-                ex
-            );
-        }
-    }
-
-    /**
-     * Parse java by input stream.
-     *
-     * @param stream Input stream.
-     * @param resolver Symbol resolver.
-     * @param level Language level.
-     * @return Compilation unit.
-     */
-    private static CompilationUnit parse(
-        final InputStream stream,
-        final SymbolResolver resolver,
-        final String level
-    ) {
-        StaticJavaParser.getParserConfiguration()
-            .setSymbolResolver(resolver)
-            .setLanguageLevel(JavaParserClass.languageLevel(level));
-        return StaticJavaParser.parse(stream);
-    }
-
-    /**
-    * Understand java level.
-    * @param level Level string.
-    * @return Language level.
-    * @checkstyle CyclomaticComplexity (50 lines)
-    * @checkstyle JavaNCSSCheck (50 lines)
-    */
-    private static ParserConfiguration.LanguageLevel languageLevel(final String level) {
-        final ParserConfiguration.LanguageLevel res;
-        final String lvl = level.trim().replace("JAVA_", "").replace("JDK_", "");
-        switch (lvl) {
-            case "1.8":
-                res = ParserConfiguration.LanguageLevel.JAVA_8;
-                break;
-            case "8":
-                res = ParserConfiguration.LanguageLevel.JAVA_8;
-                break;
-            case "9":
-                res = ParserConfiguration.LanguageLevel.JAVA_9;
-                break;
-            case "10":
-                res = ParserConfiguration.LanguageLevel.JAVA_10;
-                break;
-            case "11":
-                res = ParserConfiguration.LanguageLevel.JAVA_11;
-                break;
-            case "12":
-                res = ParserConfiguration.LanguageLevel.JAVA_12;
-                break;
-            case "13":
-                res = ParserConfiguration.LanguageLevel.JAVA_13;
-                break;
-            case "14":
-                res = ParserConfiguration.LanguageLevel.JAVA_14;
-                break;
-            case "15":
-                res = ParserConfiguration.LanguageLevel.JAVA_15;
-                break;
-            case "16":
-                res = ParserConfiguration.LanguageLevel.JAVA_16;
-                break;
-            case "17":
-                res = ParserConfiguration.LanguageLevel.JAVA_17;
-                break;
-            case "18":
-                res = ParserConfiguration.LanguageLevel.JAVA_18;
-                break;
-            case "19":
-                res = ParserConfiguration.LanguageLevel.JAVA_19;
-                break;
-            case "20":
-                res = ParserConfiguration.LanguageLevel.JAVA_20;
-                break;
-            case "21":
-                res = ParserConfiguration.LanguageLevel.JAVA_21;
-                break;
-            default:  throw new IllegalArgumentException(
-                String.format("Unsupported java level: %s", level)
-            );
-        }
-        return res;
-    }
 }
@@ -28,7 +28,12 @@ import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.github.javaparser.ast.stmt.BlockStmt;
-import com.github.javaparser.ast.stmt.Statement;
+import com.github.javaparser.ast.stmt.ExpressionStmt;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.stream.Stream;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -40,7 +45,7 @@ import lombok.ToString;
  * @since 0.1.15
  */
 @ToString
-@EqualsAndHashCode
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 final class JavaParserMethod {
 
     /**
@@ -48,12 +53,22 @@ final class JavaParserMethod {
      */
     private final MethodDeclaration method;
 
+    /**
+     * Identity of the method: signature and position in the source file.
+     * Equality of methods is based on the identity instead of the entire
+     * AST subtree, which is too expensive to hash.
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Include
+    private final String identity;
+
     /**
      * Ctor.
      * @param declaration Method declaration.
      */
     JavaParserMethod(final MethodDeclaration declaration) {
         this.method = declaration;
+        this.identity = JavaParserMethod.identity(declaration);
     }
 
     /**
@@ -77,39 +92,53 @@ final class JavaParserMethod {
      * @return Method statements.
      */
     Stream<MethodCallExpr> statements() {
-        return JavaParserMethod.flatStatements(this.body().getStatements().stream())
-            .filter(Statement::isExpressionStmt)
-            .map(JavaParserMethod::toExpression)
+        return this.expressions()
+            .map(ExpressionStmt::getExpression)
             .filter(Expression::isMethodCallExpr)
             .map(MethodCallExpr.class::cast);
     }
 
     /**
-     * This method unrolls inner method statements.
-     * In other words, if a statement is a type of block that contains inner statements,
-     * we simply unroll all these statements and return them as a flat stream.
-     * @param stmts Statements to unroll.
-     * @return Stream of statements.
+     * Get all expression statements of the method, including nested ones.
+     * The method body is traversed iteratively in pre-order, so even very long
+     * or deeply nested methods don't build deep stream pipelines or overflow the stack.
+     * @return Expression statements in the order of appearance.
      */
-    @SuppressWarnings("PMD.CognitiveComplexity")
-    private static Stream<Statement> flatStatements(final Stream<? extends Statement> stmts) {
-        return stmts.flatMap(JavaParserMethod::statements);
+    Stream<ExpressionStmt> expressions() {
+        final List<ExpressionStmt> result = new ArrayList<>(0);
+        final Deque<Node> stack = new ArrayDeque<>(0);
+        JavaParserMethod.push(stack, this.body().getStatements());
+        while (!stack.isEmpty()) {
+            final Node node = stack.pop();
+            if (node instanceof ExpressionStmt) {
+                result.add((ExpressionStmt) node);
+            }
+            JavaParserMethod.push(stack, node.getChildNodes());
+        }
+        return result.stream();
     }
 
     /**
-     * Extract statements from node.
-     * @param node Node to extract statements from.
-     * @return List of statements.
+     * Identity of the method declaration.
+     * @param declaration Method declaration.
+     * @return Signature with the position, like "checks(String)@12:5".
      */
-    private static Stream<Statement> statements(final Node node) {
-        return Stream.concat(
-            Stream.of(node)
-                .filter(Statement.class::isInstance)
-                .map(Statement.class::cast),
-            node.getChildNodes()
-                .stream()
-                .flatMap(JavaParserMethod::statements)
-        );
+    private static String identity(final MethodDeclaration declaration) {
+        return declaration.getBegin()
+            .map(pos -> String.format("%s@%d:%d", declaration.getSignature(), pos.line, pos.column))
+            .orElseGet(() -> declaration.getSignature().asString());
+    }
+
+    /**
+     * Push nodes to the stack, so that the first node is on the top.
+     * @param stack The stack.
+     * @param nodes Nodes to push.
+     */
+    private static void push(final Deque<Node> stack, final List<? extends Node> nodes) {
+        final ListIterator<? extends Node> iter = nodes.listIterator(nodes.size());
+        while (iter.hasPrevious()) {
+            stack.push(iter.previous());
+        }
     }
 
     /**
@@ -126,15 +155,4 @@ final class JavaParserMethod {
             )
         );
     }
-
-    /**
-     * Convert statement to expression.
-     * @param statement Statement
-     * @return Expression
-     */
-    private static Expression toExpression(final Statement statement) {
-        return statement.toExpressionStmt().orElseThrow(
-            () -> new IllegalStateException("Statement is not expression")
-        ).getExpression();
-    }
 }
@@ -23,13 +23,17 @@
  */
 package com.github.lombrozo.testnames.javaparser;
 
+import com.github.javaparser.ParserConfiguration;
 import com.github.javaparser.resolution.SymbolResolver;
 import com.github.javaparser.resolution.TypeSolver;
 import com.github.javaparser.symbolsolver.JavaSymbolSolver;
 import com.github.javaparser.symbolsolver.resolution.typesolvers.ClassLoaderTypeSolver;
 import com.github.javaparser.symbolsolver.resolution.typesolvers.CombinedTypeSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.JarTypeSolver;
 import com.github.javaparser.symbolsolver.resolution.typesolvers.JavaParserTypeSolver;
 import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
+import com.github.lombrozo.testnames.Facts;
+import com.github.lombrozo.testnames.InspectionCache;
 import com.github.lombrozo.testnames.ProductionClass;
 import com.github.lombrozo.testnames.Project;
 import com.github.lombrozo.testnames.TestClass;
@@ -40,8 +44,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
 
 /**
  * The project that uses JavaParser.
@@ -50,6 +58,22 @@ import java.util.stream.Stream;
  */
 public final class JavaParserProject implements Project {
 
+    /**
+     * Max number of source files each source root keeps parsed for symbol
+     * resolution.
+     * A test usually refers to a few production types, so only recently used
+     * files are kept, and evicted ones are parsed again on demand. The limit
+     * bounds the heap taken by parsed sources regardless of the project size.
+     */
+    private static final int FILES = 200;
+
+    /**
+     * Max number of resolved symbols shared by all files of the project.
+     * Resolved symbols are much smaller than parsed sources, so more of them
+     * are kept.
+     */
+    private static final int SYMBOLS = 2_000;
+
     /**
      * The main path where production classes are placed.
      */
@@ -66,9 +90,24 @@ public final class JavaParserProject implements Project {
     private final Collection<String> exclusions;
 
     /**
-     * Language level.
+     * Java source parser shared by all files of the project.
+     */
+    private final Unchecked<SourceParser> parser;
+
+    /**
+     * Results of previous inspections.
      */
-    private final String level;
+    private final InspectionCache cache;
+
+    /**
+     * Resolution of type names shared by all files of the project.
+     */
+    private final TypeNames names;
+
+    /**
+     * The tier of facts required by rules.
+     */
+    private final Facts facts;
 
     /**
      * Ctor.
@@ -99,11 +138,117 @@ public final class JavaParserProject implements Project {
         final Path test,
         final Collection<String> exclusions,
         final String level
+    ) {
+        this(main, test, exclusions, level, new InspectionCache.Disabled());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param main The main path where production classes are placed.
+     * @param test The test path where test classes are placed.
+     * @param exclusions The rules that have to be excluded from execution.
+     * @param level Language level.
+     * @param cache Results of previous inspections.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public JavaParserProject(
+        final Path main,
+        final Path test,
+        final Collection<String> exclusions,
+        final String level,
+        final InspectionCache cache
+    ) {
+        this(main, test, exclusions, level, cache, Collections.emptyList());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param main The main path where production classes are placed.
+     * @param test The test path where test classes are placed.
+     * @param exclusions The rules that have to be excluded from execution.
+     * @param level Language level.
+     * @param cache Results of previous inspections.
+     * @param jars Jars of the test classpath used to resolve types.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public JavaParserProject(
+        final Path main,
+        final Path test,
+        final Collection<String> exclusions,
+        final String level,
+        final InspectionCache cache,
+        final Collection<Path> jars
+    ) {
+        this(main, test, exclusions, level, cache, jars, false);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param main The main path where production classes are placed.
+     * @param test The test path where test classes are placed.
+     * @param exclusions The rules that have to be excluded from execution.
+     * @param level Language level.
+     * @param cache Results of previous inspections.
+     * @param jars Jars of the test classpath used to resolve types.
+     * @param classloading Whether to load classes to resolve types of on-demand imports.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public JavaParserProject(
+        final Path main,
+        final Path test,
+        final Collection<String> exclusions,
+        final String level,
+        final InspectionCache cache,
+        final Collection<Path> jars,
+        final boolean classloading
+    ) {
+        this(main, test, exclusions, level, cache, jars, classloading, Facts.TYPES);
+    }
+
+    /**
+     * Ctor.
+     * Only the facts of the given tier are computed: below the tier of types
+     * sources are parsed without symbol resolution, and at the tier of names
+     * test files are recognised by their text and aren't parsed at all.
+     *
+     * @param main The main path where production classes are placed.
+     * @param test The test path where test classes are placed.
+     * @param exclusions The rules that have to be excluded from execution.
+     * @param level Language level.
+     * @param cache Results of previous inspections.
+     * @param jars Jars of the test classpath used to resolve types.
+     * @param classloading Whether to load classes to resolve types of on-demand imports.
+     * @param facts The tier of facts required by rules.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public JavaParserProject(
+        final Path main,
+        final Path test,
+        final Collection<String> exclusions,
+        final String level,
+        final InspectionCache cache,
+        final Collection<Path> jars,
+        final boolean classloading,
+        final Facts facts
     ) {
         this.main = main;
         this.test = test;
         this.exclusions = exclusions;
-        this.level = level;
+        this.parser = new Unchecked<>(
+            new Synced<>(
+                new Sticky<>(() -> JavaParserProject.parser(main, test, level, jars, facts))
+            )
+        );
+        this.cache = cache;
+        if (classloading) {
+            this.names = new TypeNames(Thread.currentThread().getContextClassLoader());
+        } else {
+            this.names = new TypeNames();
+        }
+        this.facts = facts;
     }
 
     /**
@@ -138,39 +283,95 @@ public final class JavaParserProject implements Project {
 
     @Override
     public Collection<TestClass> testClasses() {
-        final Collection<TestClass> res;
+        try (Stream<TestClass> tests = this.tests()) {
+            return tests.collect(Collectors.toList());
+        }
+    }
+
+    @Override
+    public Stream<TestClass> tests() {
+        final Stream<TestClass> res;
         if (Files.exists(this.test)) {
-            try (Stream<Path> files = Files.walk(this.test)) {
-                res = files
+            try {
+                res = Files.walk(this.test)
                     .filter(Files::exists)
                     .filter(Files::isRegularFile)
                     .filter(path -> path.toString().endsWith(".java"))
-                    .filter(
-                        path ->
-                            new JavaParserClass(
-                                path,
-                                this.projectResolver(),
-                                this.level
-                            ).isTest()
-                    )
-                    .map(
-                        klass -> new JavaParserTestClass(
-                            klass,
-                            this.projectResolver(),
-                            this.exclusions,
-                            this.level
-                        )
-                    )
-                    .collect(Collectors.toList());
+                    .map(this::testClass)
+                    .filter(Optional::isPresent)
+                    .map(Optional::get);
             } catch (final IOException exception) {
                 throw new IllegalStateException(exception);
             }
         } else {
-            res = Collections.emptyList();
+            res = Stream.empty();
         }
         return res;
     }
 
+    /**
+     * Parse java file and convert it to test class if it is a test.
+     * The file is read and parsed only once, the same parsed class is
+     * used both to decide whether it's a test and to inspect it later.
+     * Files that haven't changed since the previous inspection aren't parsed
+     * here at all, they are parsed later only if they are really needed.
+     * At the tier of names files aren't parsed either, they are recognised
+     * by their text, and parsed only to confirm complaints about them.
+     *
+     * @param path Path to java file.
+     * @return Test class if the file contains a test.
+     */
+    private Optional<TestClass> testClass(final Path path) {
+        final Optional<TestClass> result;
+        if (this.facts == Facts.NAMES) {
+            if (new TestsInText().test(path)) {
+                result = Optional.of(this.lazy(path));
+            } else {
+                result = Optional.empty();
+            }
+        } else if (this.cache.unchanged(path)) {
+            if (this.cache.test(path)) {
+                result = Optional.of(this.lazy(path));
+            } else {
+                result = Optional.empty();
+            }
+        } else {
+            final JavaParserClass parsed = new JavaParserClass(path, this.parser.value());
+            final boolean test = parsed.isTest();
+            this.cache.classify(path, test);
+            if (test) {
+                result = Optional.of(
+                    new JavaParserTestClass(
+                        path,
+                        new Unchecked<>(() -> parsed),
+                        this.exclusions,
+                        this.names
+                    )
+                );
+            } else {
+                result = Optional.empty();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Test class that is parsed only when it's really needed.
+     *
+     * @param path Path to java file.
+     * @return Test class.
+     */
+    private TestClass lazy(final Path path) {
+        return new JavaParserTestClass(
+            path,
+            new Unchecked<>(
+                new Sticky<>(() -> new JavaParserClass(path, this.parser.value()))
+            ),
+            this.exclusions,
+            this.names
+        );
+    }
+
     /**
      * Resolver for JavaParser.
      *
@@ -190,20 +391,93 @@ public final class JavaParserProject implements Project {
     }
 
     /**
-     * Resolver for JavaParser.
+     * Parser for the tier of facts.
+     * Types are resolved only if rules need them, so below the tier of types
+     * the resolver, with its indexes of sources and jars, isn't created.
+     *
+     * @param main The main path where production classes are placed.
+     * @param test The test path where test classes are placed.
+     * @param level Language level.
+     * @param jars Jars of the test classpath.
+     * @param facts The tier of facts required by rules.
+     * @return Parser.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private static SourceParser parser(
+        final Path main,
+        final Path test,
+        final String level,
+        final Collection<Path> jars,
+        final Facts facts
+    ) {
+        final SourceParser result;
+        if (facts == Facts.TYPES) {
+            result = new SourceParser(JavaParserProject.resolver(main, test, level, jars), level);
+        } else {
+            result = new SourceParser(level);
+        }
+        return result;
+    }
+
+    /**
+     * Resolver for JavaParser that knows about project sources.
+     * The resolver is shared by all files of the project, so each type is
+     * resolved only once and then taken from the bounded cache. Type solvers
+     * aren't thread-safe, so the resolver resolves one symbol at a time.
      *
+     * @param main The main path where production classes are placed.
+     * @param test The test path where test classes are placed.
+     * @param level Language level.
+     * @param jars Jars of the test classpath.
      * @return Symbol resolver.
+     * @checkstyle ParameterNumberCheck (10 lines)
      */
-    private SymbolResolver projectResolver() {
-        final List<TypeSolver> solvers = new ArrayList(0);
+    private static SymbolResolver resolver(
+        final Path main,
+        final Path test,
+        final String level,
+        final Collection<Path> jars
+    ) {
+        final ParserConfiguration config = new ParserConfiguration()
+            .setLanguageLevel(SourceParser.languageLevel(level));
+        final List<TypeSolver> solvers = new ArrayList<>(0);
         solvers.add(new ReflectionTypeSolver());
         solvers.add(new ClassLoaderTypeSolver(Thread.currentThread().getContextClassLoader()));
-        if (Files.exists(this.main)) {
-            solvers.add(new JavaParserTypeSolver(this.main));
+        if (Files.exists(main)) {
+            solvers.add(new JavaParserTypeSolver(main, config, JavaParserProject.FILES));
         }
-        if (Files.exists(this.test)) {
-            solvers.add(new JavaParserTypeSolver(this.test));
+        if (Files.exists(test)) {
+            solvers.add(new JavaParserTypeSolver(test, config, JavaParserProject.FILES));
+        }
+        jars.stream()
+            .filter(Files::isRegularFile)
+            .map(JavaParserProject::solver)
+            .forEach(solvers::add);
+        return new SyncedResolver(
+            new JavaSymbolSolver(
+                new CombinedTypeSolver(
+                    CombinedTypeSolver.ExceptionHandlers.IGNORE_NONE,
+                    solvers,
+                    new BoundedCache<>(JavaParserProject.SYMBOLS)
+                )
+            )
+        );
+    }
+
+    /**
+     * Type solver for jar file.
+     *
+     * @param jar Path to the jar.
+     * @return Type solver.
+     */
+    private static TypeSolver solver(final Path jar) {
+        try {
+            return new JarTypeSolver(jar);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Can't read types from the jar %s", jar),
+                ex
+            );
         }
-        return new JavaSymbolSolver(new CombinedTypeSolver(solvers.toArray(new TypeSolver[0])));
     }
 }
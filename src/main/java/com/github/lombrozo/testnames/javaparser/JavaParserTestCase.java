@@ -24,31 +24,39 @@
 
 package com.github.lombrozo.testnames.javaparser;
 
-import com.github.javaparser.ast.Node;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.body.MethodDeclaration;
-import com.github.javaparser.ast.stmt.ExpressionStmt;
 import com.github.javaparser.ast.type.VarType;
 import com.github.lombrozo.testnames.Assertion;
+import com.github.lombrozo.testnames.Suppression;
 import com.github.lombrozo.testnames.TestCase;
 import com.github.lombrozo.testnames.TestClass;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
 
 /**
  * Parser for a test case.
+ * Test cases are equal if they are declared in the same file with the same
+ * signature at the same position.
  *
  * @since 0.1.0
  */
-@Data
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @SuppressWarnings("PMD.TestClassWithoutTestCases")
 final class JavaParserTestCase implements TestCase {
 
     /**
      * Method declaration.
      */
+    @EqualsAndHashCode.Include
     private final JavaParserMethod method;
 
     /**
@@ -56,6 +64,25 @@ final class JavaParserTestCase implements TestCase {
      */
     private final TestClass parent;
 
+    /**
+     * Path of the parent test class.
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Include
+    private final Path file;
+
+    /**
+     * Facts about the method collected in a single pass.
+     */
+    @ToString.Exclude
+    private final Unchecked<TestCaseFacts> facts;
+
+    /**
+     * Suppressed rules of the method and its class, computed only once.
+     */
+    @ToString.Exclude
+    private final Unchecked<Suppression> hidden;
+
     /**
      * Ctor.
      *
@@ -98,6 +125,21 @@ final class JavaParserTestCase implements TestCase {
     ) {
         this.method = method;
         this.parent = parent;
+        this.file = parent.path();
+        this.facts = new Unchecked<>(new Synced<>(new Sticky<>(() -> new TestCaseFacts(method))));
+        this.hidden = new Unchecked<>(
+            new Synced<>(
+                new Sticky<>(
+                    () -> parent.suppression().with(
+                        new Suppression(
+                            new SuppressedAnnotations(method.asMethodDeclaration())
+                                .suppressed()
+                                .collect(Collectors.toList())
+                        )
+                    )
+                )
+            )
+        );
     }
 
     @Override
@@ -113,20 +155,18 @@ final class JavaParserTestCase implements TestCase {
         ).collect(Collectors.toSet());
     }
 
+    @Override
+    public Suppression suppression() {
+        return this.hidden.value();
+    }
+
     @Override
     public Collection<Assertion> assertions() {
-        return this.method.statements()
-            .map(JavaParserAssertion::new)
-            .filter(ParsedAssertion::isAssertion)
-            .collect(Collectors.toList());
+        return this.facts.value().assertions();
     }
 
     @Override
     public Collection<String> statements() {
-        return this.method.asMethodDeclaration()
-            .findAll(ExpressionStmt.class)
-            .stream()
-            .map(Node::toString)
-            .collect(Collectors.toList());
+        return this.facts.value().statements();
     }
 }
@@ -27,6 +27,7 @@ package com.github.lombrozo.testnames.javaparser;
 import com.github.javaparser.ParseProblemException;
 import com.github.javaparser.resolution.SymbolResolver;
 import com.github.lombrozo.testnames.Field;
+import com.github.lombrozo.testnames.Suppression;
 import com.github.lombrozo.testnames.TestCase;
 import com.github.lombrozo.testnames.TestClass;
 import com.github.lombrozo.testnames.TestClassCharacteristics;
@@ -39,6 +40,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.cactoos.list.ListOf;
 import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
 import org.cactoos.scalar.Unchecked;
 
 /**
@@ -64,6 +66,22 @@ public final class JavaParserTestClass implements TestClass {
      */
     private final Collection<String> exclusions;
 
+    /**
+     * Characteristics of the class, computed only once.
+     */
+    private final Unchecked<TestClassCharacteristics> props;
+
+    /**
+     * Test cases of the class, collected only once.
+     */
+    private final Unchecked<Collection<TestCase>> cases;
+
+    /**
+     * Suppressed rules, including rules excluded for entire project,
+     * computed only once.
+     */
+    private final Unchecked<Suppression> hidden;
+
     /**
      * Ctor.
      *
@@ -140,6 +158,21 @@ public final class JavaParserTestClass implements TestClass {
         this(klass, JavaParserTestClass.parse(stream, resolver, level), exclusions);
     }
 
+    /**
+     * Ctor.
+     *
+     * @param klass Path to the class
+     * @param parsed Already parsed class.
+     * @param exclusions Rules excluded for entire project.
+     */
+    JavaParserTestClass(
+        final Path klass,
+        final JavaParserClass parsed,
+        final Collection<String> exclusions
+    ) {
+        this(klass, new Unchecked<>(() -> parsed), exclusions);
+    }
+
     /**
      * Ctor.
      *
@@ -166,10 +199,48 @@ public final class JavaParserTestClass implements TestClass {
         final Path path,
         final Unchecked<JavaParserClass> unit,
         final Collection<String> exclusions
+    ) {
+        this(path, unit, exclusions, new TypeNames());
+    }
+
+    /**
+     * Primary constructor.
+     *
+     * @param path Path to the class
+     * @param unit Parsed class.
+     * @param exclusions Rules excluded for entire project.
+     * @param names Resolution of type names.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    JavaParserTestClass(
+        final Path path,
+        final Unchecked<JavaParserClass> unit,
+        final Collection<String> exclusions,
+        final TypeNames names
     ) {
         this.path = path;
         this.unit = unit;
         this.exclusions = exclusions;
+        this.props = new Unchecked<>(
+            new Synced<>(
+                new Sticky<>(() -> new JavaParserCharacteristics(unit.value(), names))
+            )
+        );
+        this.cases = new Unchecked<>(
+            new Synced<>(
+                new Sticky<>(
+                    () -> Collections.unmodifiableSet(
+                        unit.value()
+                            .methods(new TestsOnly())
+                            .map(method -> new JavaParserTestCase(method, this))
+                            .collect(Collectors.toSet())
+                    )
+                )
+            )
+        );
+        this.hidden = new Unchecked<>(
+            new Synced<>(new Sticky<>(() -> new Suppression(this.suppressed())))
+        );
     }
 
     @Override
@@ -185,10 +256,7 @@ public final class JavaParserTestClass implements TestClass {
     @Override
     public Collection<TestCase> all() {
         try {
-            return this.unit.value()
-                .methods(new TestsOnly())
-                .map(method -> new JavaParserTestCase(method, this))
-                .collect(Collectors.toSet());
+            return this.cases.value();
         } catch (final UncheckedIOException | ParseProblemException ex) {
             throw new IllegalStateException(
                 String.format("Failed to parse Java class by path %s", this.path),
@@ -210,9 +278,19 @@ public final class JavaParserTestClass implements TestClass {
         ).collect(Collectors.toSet());
     }
 
+    @Override
+    public Suppression suppression() {
+        return this.hidden.value();
+    }
+
     @Override
     public TestClassCharacteristics characteristics() {
-        return new JavaParserCharacteristics(this.unit.value());
+        return this.props.value();
+    }
+
+    @Override
+    public boolean isTest() {
+        return this.unit.value().isTest();
     }
 
     /**
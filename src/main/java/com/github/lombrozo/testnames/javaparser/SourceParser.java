@@ -0,0 +1,198 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseProblemException;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.resolution.SymbolResolver;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+/**
+ * Java source parser.
+ * Keeps one configured {@link JavaParser} per thread, so parsing doesn't
+ * touch the global configuration of {@link com.github.javaparser.StaticJavaParser}
+ * and several projects can be parsed in parallel.
+ *
+ * @since 1.5
+ */
+final class SourceParser {
+
+    /**
+     * JavaParser instances, one per thread.
+     */
+    private final ThreadLocal<JavaParser> parsers;
+
+    /**
+     * Ctor.
+     * Parsed files can't resolve types of expressions.
+     * @param level Language level.
+     */
+    SourceParser(final String level) {
+        this(SourceParser.languageLevel(level));
+    }
+
+    /**
+     * Ctor.
+     * @param resolver Symbol resolver.
+     * @param level Language level.
+     */
+    SourceParser(final SymbolResolver resolver, final String level) {
+        this(SourceParser.languageLevel(level), resolver);
+    }
+
+    /**
+     * Ctor.
+     * @param level Language level.
+     */
+    private SourceParser(final ParserConfiguration.LanguageLevel level) {
+        this(() -> new ParserConfiguration().setLanguageLevel(level));
+    }
+
+    /**
+     * Ctor.
+     * @param level Language level.
+     * @param resolver Symbol resolver.
+     */
+    private SourceParser(
+        final ParserConfiguration.LanguageLevel level,
+        final SymbolResolver resolver
+    ) {
+        this(() -> new ParserConfiguration().setSymbolResolver(resolver).setLanguageLevel(level));
+    }
+
+    /**
+     * Primary ctor.
+     * @param config Configuration of a parser, created once per thread.
+     */
+    private SourceParser(final Supplier<ParserConfiguration> config) {
+        this.parsers = ThreadLocal.withInitial(() -> new JavaParser(config.get()));
+    }
+
+    /**
+     * Parse java file.
+     * @param path Path to java file.
+     * @return Compilation unit.
+     */
+    CompilationUnit parse(final Path path) {
+        try {
+            return SourceParser.unit(this.parsers.get().parse(path));
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Can't parse java file: %s", path.toAbsolutePath()),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Parse java source from input stream.
+     * @param stream Input stream.
+     * @return Compilation unit.
+     */
+    CompilationUnit parse(final InputStream stream) {
+        return SourceParser.unit(this.parsers.get().parse(stream));
+    }
+
+    /**
+     * Compilation unit from parse result.
+     * @param result Parse result.
+     * @return Compilation unit.
+     */
+    private static CompilationUnit unit(final ParseResult<CompilationUnit> result) {
+        if (result.isSuccessful() && result.getResult().isPresent()) {
+            return result.getResult().get();
+        } else {
+            throw new ParseProblemException(result.getProblems());
+        }
+    }
+
+    /**
+    * Understand java level.
+    * @param level Level string.
+    * @return Language level.
+    * @checkstyle CyclomaticComplexity (50 lines)
+    * @checkstyle JavaNCSSCheck (50 lines)
+    */
+    static ParserConfiguration.LanguageLevel languageLevel(final String level) {
+        final ParserConfiguration.LanguageLevel res;
+        final String lvl = level.trim().replace("JAVA_", "").replace("JDK_", "");
+        switch (lvl) {
+            case "1.8":
+                res = ParserConfiguration.LanguageLevel.JAVA_8;
+                break;
+            case "8":
+                res = ParserConfiguration.LanguageLevel.JAVA_8;
+                break;
+            case "9":
+                res = ParserConfiguration.LanguageLevel.JAVA_9;
+                break;
+            case "10":
+                res = ParserConfiguration.LanguageLevel.JAVA_10;
+                break;
+            case "11":
+                res = ParserConfiguration.LanguageLevel.JAVA_11;
+                break;
+            case "12":
+                res = ParserConfiguration.LanguageLevel.JAVA_12;
+                break;
+            case "13":
+                res = ParserConfiguration.LanguageLevel.JAVA_13;
+                break;
+            case "14":
+                res = ParserConfiguration.LanguageLevel.JAVA_14;
+                break;
+            case "15":
+                res = ParserConfiguration.LanguageLevel.JAVA_15;
+                break;
+            case "16":
+                res = ParserConfiguration.LanguageLevel.JAVA_16;
+                break;
+            case "17":
+                res = ParserConfiguration.LanguageLevel.JAVA_17;
+                break;
+            case "18":
+                res = ParserConfiguration.LanguageLevel.JAVA_18;
+                break;
+            case "19":
+                res = ParserConfiguration.LanguageLevel.JAVA_19;
+                break;
+            case "20":
+                res = ParserConfiguration.LanguageLevel.JAVA_20;
+                break;
+            case "21":
+                res = ParserConfiguration.LanguageLevel.JAVA_21;
+                break;
+            default:  throw new IllegalArgumentException(
+                String.format("Unsupported java level: %s", level)
+            );
+        }
+        return res;
+    }
+}
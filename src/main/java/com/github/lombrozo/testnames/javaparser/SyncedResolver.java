@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.type.Type;
+import com.github.javaparser.resolution.SymbolResolver;
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.resolution.types.ResolvedType;
+
+/**
+ * Symbol resolver that resolves one symbol at a time.
+ * <p>
+ * Type solvers of a project keep their own parsers and caches that aren't
+ * safe to use from several threads, and all files of the project share them.
+ * Each resolution runs entirely within a single call of the resolver, so
+ * holding one lock for the call keeps the solvers consistent while test
+ * classes are still parsed and inspected in parallel.
+ * </p>
+ *
+ * @since 1.5
+ */
+final class SyncedResolver implements SymbolResolver {
+
+    /**
+     * Original resolver.
+     */
+    private final SymbolResolver origin;
+
+    /**
+     * Lock for all resolutions.
+     */
+    private final Object lock;
+
+    /**
+     * Ctor.
+     * @param origin Original resolver.
+     */
+    SyncedResolver(final SymbolResolver origin) {
+        this.origin = origin;
+        this.lock = new Object();
+    }
+
+    @Override
+    public <T> T resolveDeclaration(final Node node, final Class<T> type) {
+        synchronized (this.lock) {
+            return this.origin.resolveDeclaration(node, type);
+        }
+    }
+
+    @Override
+    public <T> T toResolvedType(final Type type, final Class<T> result) {
+        synchronized (this.lock) {
+            return this.origin.toResolvedType(type, result);
+        }
+    }
+
+    @Override
+    public ResolvedType calculateType(final Expression expression) {
+        synchronized (this.lock) {
+            return this.origin.calculateType(expression);
+        }
+    }
+
+    @Override
+    public ResolvedReferenceTypeDeclaration toTypeDeclaration(final Node node) {
+        synchronized (this.lock) {
+            return this.origin.toTypeDeclaration(node);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.javaparser.ast.stmt.ExpressionStmt;
+import com.github.lombrozo.testnames.Assertion;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Facts about a test method collected in a single pass over its body.
+ * All method-level rules use the same facts, so the method body is traversed
+ * and assertions are analyzed only once.
+ *
+ * @since 1.5
+ */
+final class TestCaseFacts {
+
+    /**
+     * Assertions of the method.
+     */
+    private final List<Assertion> assertions;
+
+    /**
+     * Expression statements of the method as strings.
+     */
+    private final List<String> statements;
+
+    /**
+     * Ctor.
+     * @param method The method to analyze.
+     */
+    @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
+    TestCaseFacts(final JavaParserMethod method) {
+        this(new ArrayList<>(0), new ArrayList<>(0));
+        if (method.asMethodDeclaration().getBody().isPresent()) {
+            method.expressions().forEach(this::analyze);
+        }
+    }
+
+    /**
+     * Primary ctor.
+     * @param assertions Assertions of the method.
+     * @param statements Expression statements of the method.
+     */
+    private TestCaseFacts(
+        final List<Assertion> assertions,
+        final List<String> statements
+    ) {
+        this.assertions = assertions;
+        this.statements = statements;
+    }
+
+    /**
+     * Assertions of the method with memoised explanations and precomputed
+     * line-hitter flags.
+     * @return Assertions.
+     */
+    Collection<Assertion> assertions() {
+        return Collections.unmodifiableList(this.assertions);
+    }
+
+    /**
+     * Expression statements of the method.
+     * @return Statements as strings.
+     */
+    Collection<String> statements() {
+        return Collections.unmodifiableList(this.statements);
+    }
+
+    /**
+     * Analyze a single expression statement.
+     * @param statement The statement.
+     */
+    private void analyze(final ExpressionStmt statement) {
+        this.statements.add(statement.toString());
+        if (statement.getExpression().isMethodCallExpr()) {
+            final JavaParserAssertion assertion = new JavaParserAssertion(
+                statement.getExpression().asMethodCallExpr()
+            );
+            if (assertion.isAssertion()) {
+                this.assertions.add(new Analyzed(assertion, assertion.isLineHitter()));
+            }
+        }
+    }
+
+    /**
+     * Assertion with precomputed properties.
+     * The explanation may need resolved types, so it's computed only when
+     * it's asked for, and only once.
+     * @since 1.5
+     */
+    private static final class Analyzed implements Assertion {
+
+        /**
+         * Original assertion.
+         */
+        private final Assertion origin;
+
+        /**
+         * The assertion message explanation.
+         */
+        private final Unchecked<Optional<String>> explanation;
+
+        /**
+         * Is line hitter.
+         */
+        private final boolean hitter;
+
+        /**
+         * Ctor.
+         * @param origin Original assertion.
+         * @param hitter Is line hitter.
+         */
+        Analyzed(final Assertion origin, final boolean hitter) {
+            this.origin = origin;
+            this.explanation = new Unchecked<>(new Synced<>(new Sticky<>(origin::explanation)));
+            this.hitter = hitter;
+        }
+
+        @Override
+        public Optional<String> explanation() {
+            return this.explanation.value();
+        }
+
+        @Override
+        public boolean isLineHitter() {
+            return this.hitter;
+        }
+
+        @Override
+        public String toString() {
+            return this.origin.toString();
+        }
+    }
+}
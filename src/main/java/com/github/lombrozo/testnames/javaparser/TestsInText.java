@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Java files that may contain tests, judged by their text without parsing.
+ * <p>
+ * A file may contain tests if it mentions any of the annotations
+ * {@link TestsOnly} recognises tests by, maybe with qualified names. It's
+ * a superset of the files accepted by {@link TestsOnly}: annotations in
+ * comments, private methods or interfaces aren't told apart here. It's only
+ * a cheap pre-filter: complaints about such files are reported only after the
+ * file is parsed and confirmed to be a test, see
+ * {@link com.github.lombrozo.testnames.rules.RuleConfirmed}.
+ * </p>
+ *
+ * @since 1.5
+ */
+final class TestsInText implements Predicate<Path> {
+
+    /**
+     * Test annotation, maybe with a qualified name.
+     */
+    private static final Pattern ANNOTATION = Pattern.compile(
+        String.format(
+            "@\\s*(?:[\\w$]+\\s*\\.\\s*)*(?:%s)\\b",
+            TestsOnly.ANNOTATIONS.stream()
+                .map(Pattern::quote)
+                .collect(Collectors.joining("|"))
+        )
+    );
+
+    @Override
+    public boolean test(final Path path) {
+        return !"package-info.java".equals(path.getFileName().toString())
+            && TestsInText.ANNOTATION.matcher(TestsInText.text(path)).find();
+    }
+
+    /**
+     * Read the text of the file.
+     * @param path Path to the file.
+     * @return Text of the file.
+     */
+    private static String text(final Path path) {
+        try {
+            return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Can't read java file: %s", path.toAbsolutePath()),
+                ex
+            );
+        }
+    }
+}
@@ -24,6 +24,9 @@
 package com.github.lombrozo.testnames.javaparser;
 
 import com.github.javaparser.ast.body.MethodDeclaration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Predicate;
 
 /**
@@ -39,6 +42,14 @@ import java.util.function.Predicate;
 })
 final class TestsOnly implements Predicate<MethodDeclaration> {
 
+    /**
+     * Simple names of annotations that mark test methods.
+     * {@link TestsInText} looks for the same annotations in the text of files.
+     */
+    static final List<String> ANNOTATIONS = Collections.unmodifiableList(
+        Arrays.asList("Test", "ParameterizedTest")
+    );
+
     @Override
     public boolean test(final MethodDeclaration declaration) {
         return !declaration.isPrivate() && TestsOnly.withTestAnnotation(declaration);
@@ -51,7 +62,6 @@ final class TestsOnly implements Predicate<MethodDeclaration> {
      * @return True if the method has a test annotation.
      */
     private static boolean withTestAnnotation(final MethodDeclaration declaration) {
-        return declaration.isAnnotationPresent("Test")
-            || declaration.isAnnotationPresent("ParameterizedTest");
+        return TestsOnly.ANNOTATIONS.stream().anyMatch(declaration::isAnnotationPresent);
     }
 }
@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.javaparser.ast.ImportDeclaration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Fully qualified names of types used in a class.
+ * <p>
+ * Names are resolved from the source code only: fully qualified names are
+ * taken as is, and simple names are matched against single-type imports.
+ * Types that aren't imported explicitly belong to the same package, unless
+ * classloading is enabled. In that case, the types are also searched in the
+ * on-demand imports by loading classes, and the result of each lookup is
+ * memoized, so a class is loaded only once for the whole project.
+ * </p>
+ *
+ * @since 1.5
+ */
+final class TypeNames {
+
+    /**
+     * Class loader to search types of on-demand imports with, if enabled.
+     */
+    private final Optional<ClassLoader> loader;
+
+    /**
+     * Memoized lookups, whether a class with the name exists.
+     */
+    private final Map<String, Boolean> loaded;
+
+    /**
+     * Constructor.
+     * Resolves names from the source code only.
+     */
+    TypeNames() {
+        this(Optional.empty());
+    }
+
+    /**
+     * Constructor.
+     * @param loader Class loader to search types of on-demand imports with.
+     */
+    TypeNames(final ClassLoader loader) {
+        this(Optional.of(loader));
+    }
+
+    /**
+     * Constructor.
+     * @param loader Class loader to search types of on-demand imports with, if enabled.
+     */
+    private TypeNames(final Optional<ClassLoader> loader) {
+        this.loader = loader;
+        this.loaded = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Fully qualified name of the type.
+     * @param name Name of the type as it's written in the source code.
+     * @param imports Imports of the compilation unit.
+     * @param pckg Package of the compilation unit.
+     * @return Fully qualified name.
+     */
+    String resolved(
+        final String name,
+        final Collection<ImportDeclaration> imports,
+        final Optional<String> pckg
+    ) {
+        final int dot = name.indexOf('.');
+        final String first;
+        if (dot < 0) {
+            first = name;
+        } else {
+            first = name.substring(0, dot);
+        }
+        final Optional<String> imported = imports.stream()
+            .filter(imp -> !imp.isAsterisk() && !imp.isStatic())
+            .map(ImportDeclaration::getNameAsString)
+            .filter(imp -> imp.endsWith(String.format(".%s", first)))
+            .findFirst()
+            .map(imp -> imp.concat(name.substring(first.length())));
+        final String result;
+        if (imported.isPresent()) {
+            result = imported.get();
+        } else if (dot >= 0) {
+            result = name;
+        } else {
+            result = this.demanded(name, imports)
+                .orElseGet(() -> pckg.map(p -> String.format("%s.%s", p, name)).orElse(name));
+        }
+        return result;
+    }
+
+    /**
+     * Search the type among on-demand imports.
+     * @param name Simple name of the type.
+     * @param imports Imports of the compilation unit.
+     * @return Fully qualified name, if classloading is enabled and the type is found.
+     */
+    private Optional<String> demanded(
+        final String name,
+        final Collection<ImportDeclaration> imports
+    ) {
+        return this.loader.flatMap(
+            classes -> imports.stream()
+                .filter(imp -> imp.isAsterisk() && !imp.isStatic())
+                .map(imp -> String.format("%s.%s", imp.getNameAsString(), name))
+                .filter(
+                    full -> this.loaded.computeIfAbsent(
+                        full,
+                        key -> TypeNames.exists(classes, key)
+                    )
+                )
+                .findFirst()
+        );
+    }
+
+    /**
+     * Check whether the class exists.
+     * @param classes Class loader.
+     * @param name Fully qualified name of the class.
+     * @return True if the class can be loaded.
+     */
+    private static boolean exists(final ClassLoader classes, final String name) {
+        boolean res;
+        try {
+            classes.loadClass(name);
+            res = true;
+        } catch (final ClassNotFoundException | LinkageError ex) {
+            Logger.getLogger(TypeNames.class.getName()).fine(
+                String.format("Can't find class %s in classpath", name)
+            );
+            res = false;
+        }
+        return res;
+    }
+}
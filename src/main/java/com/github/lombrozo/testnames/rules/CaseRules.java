@@ -0,0 +1,190 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+import com.github.lombrozo.testnames.CaseRule;
+import com.github.lombrozo.testnames.ComplaintSink;
+import com.github.lombrozo.testnames.Facts;
+import com.github.lombrozo.testnames.Parameters;
+import com.github.lombrozo.testnames.Suppression;
+import com.github.lombrozo.testnames.TestCase;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * All built-in rules for test cases.
+ * <p>
+ * The rules are stateless, so the same instance checks all test cases of a
+ * project. For each test case the name is scanned only once. The rules are
+ * kept in arrays with the ids of their names, and the suppressed ones are
+ * skipped by a bit test before the check, so a correct test case is checked without
+ * allocating rules, wrappers or collections of complaints.
+ * </p>
+ *
+ * @since 1.5
+ */
+public final class CaseRules implements CaseRule {
+
+    /**
+     * Name of the rule, the same as the name of {@link RuleCorrectTestCase}.
+     */
+    private static final String NAME = RuleCorrectTestCase.class.getSimpleName();
+
+    /**
+     * Id of the rule name.
+     */
+    private static final int ID = Suppression.id(CaseRules.NAME);
+
+    /**
+     * Rules that check the name of a test case.
+     */
+    private final NameRule[] names;
+
+    /**
+     * Ids of the names of name rules.
+     */
+    private final int[] nids;
+
+    /**
+     * Other rules.
+     */
+    private final CaseRule[] others;
+
+    /**
+     * Ids of the names of other rules.
+     */
+    private final int[] oids;
+
+    /**
+     * Ctor.
+     * @param parameters Parameters to use for the check.
+     */
+    public CaseRules(final Parameters parameters) {
+        this(
+            new NameRule[]{
+                new CheckNotCamelCase(),
+                new CheckNotContainsTestWord(),
+                new CheckNotSpam(),
+                new CheckNotUsesSpecialCharacters(),
+                new CheckPresentTense(),
+            },
+            new CaseRule[]{
+                new CheckAssertionMessage(),
+                new CheckLineHitter(),
+                new CheckMockery(parameters),
+            }
+        );
+    }
+
+    /**
+     * Primary ctor.
+     * @param names Rules that check the name of a test case.
+     * @param others Other rules.
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    CaseRules(final NameRule[] names, final CaseRule[] others) {
+        this.names = names;
+        this.nids = CaseRules.ids(names);
+        this.others = others;
+        this.oids = CaseRules.ids(others);
+    }
+
+    @Override
+    public String name() {
+        return CaseRules.NAME;
+    }
+
+    /**
+     * The most expensive tier of facts among the rules.
+     * @return The tier of facts, or the tier of names if there are no rules
+     */
+    @Override
+    public Facts facts() {
+        return Stream.concat(Arrays.stream(this.names), Arrays.stream(this.others))
+            .map(CaseRule::facts)
+            .reduce(Facts.NAMES, Facts::with);
+    }
+
+    /**
+     * Rules without the excluded ones.
+     * Excluded rules are dropped once, so they are never checked.
+     * @param excluded Rules excluded for an entire project.
+     * @return Remaining rules.
+     */
+    public CaseRules without(final Suppression excluded) {
+        final CaseRules result;
+        if (excluded.has(CaseRules.ID)) {
+            result = new CaseRules(new NameRule[0], new CaseRule[0]);
+        } else {
+            result = new CaseRules(
+                Arrays.stream(this.names)
+                    .filter(rule -> !excluded.has(Suppression.id(rule.name())))
+                    .toArray(NameRule[]::new),
+                Arrays.stream(this.others)
+                    .filter(rule -> !excluded.has(Suppression.id(rule.name())))
+                    .toArray(CaseRule[]::new)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Are there no rules?
+     * @return True if there are no rules to check.
+     */
+    public boolean isEmpty() {
+        return this.names.length == 0 && this.others.length == 0;
+    }
+
+    @Override
+    public void check(final TestCase test, final ComplaintSink sink) {
+        final Suppression hidden = test.suppression();
+        if (!hidden.has(CaseRules.ID)) {
+            final int facts = NameFacts.scan(test.name());
+            for (int idx = 0; idx < this.names.length; ++idx) {
+                if (!hidden.has(this.nids[idx])) {
+                    this.names[idx].check(test, facts, sink);
+                }
+            }
+            for (int idx = 0; idx < this.others.length; ++idx) {
+                if (!hidden.has(this.oids[idx])) {
+                    this.others[idx].check(test, sink);
+                }
+            }
+        }
+    }
+
+    /**
+     * Ids of the rule names.
+     * @param rules The rules.
+     * @return Ids in the order of rules.
+     */
+    private static int[] ids(final CaseRule... rules) {
+        final int[] result = new int[rules.length];
+        for (int idx = 0; idx < rules.length; ++idx) {
+            result[idx] = Suppression.id(rules[idx].name());
+        }
+        return result;
+    }
+}
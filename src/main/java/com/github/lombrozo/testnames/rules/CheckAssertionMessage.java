@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+import com.github.lombrozo.testnames.Assertion;
+import com.github.lombrozo.testnames.CaseRule;
+import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.ComplaintSink;
+import com.github.lombrozo.testnames.Facts;
+import com.github.lombrozo.testnames.TestCase;
+import com.github.lombrozo.testnames.complaints.ComplaintWithRule;
+import java.util.Collection;
+
+/**
+ * Stateless check of {@link RuleAssertionMessage}.
+ *
+ * @since 1.5
+ */
+final class CheckAssertionMessage implements CaseRule {
+
+    /**
+     * Name of the rule.
+     */
+    private static final String NAME = RuleAssertionMessage.class.getSimpleName();
+
+    @Override
+    public String name() {
+        return CheckAssertionMessage.NAME;
+    }
+
+    @Override
+    public Facts facts() {
+        return Facts.TYPES;
+    }
+
+    @Override
+    public void check(final TestCase test, final ComplaintSink sink) {
+        final Collection<Assertion> assertions = test.assertions();
+        if (assertions.isEmpty()) {
+            sink.accept(new EmptyAssertions(test));
+        }
+        for (final Assertion assertion : assertions) {
+            if (!assertion.explanation().isPresent()) {
+                sink.accept(new EmptyAssertionMessage(test, assertion));
+            }
+        }
+    }
+
+    /**
+     * The complaint about empty assertions.
+     * @since 0.1.15
+     */
+    private static final class EmptyAssertions implements Complaint {
+
+        /**
+         * The test case.
+         */
+        private final TestCase method;
+
+        /**
+         * Ctor.
+         * @param test The test case.
+         */
+        EmptyAssertions(final TestCase test) {
+            this.method = test;
+        }
+
+        @Override
+        public String message() {
+            return new ComplaintWithRule(
+                String.format(
+                    "Method '%s' doesn't have assertion statements, while their presence is expected",
+                    this.method.name()
+                ),
+                RuleAssertionMessage.class
+            ).message();
+        }
+    }
+
+    /**
+     * The complaint about empty assertion message.
+     *
+     * @since 0.1.15
+     */
+    private static final class EmptyAssertionMessage implements Complaint {
+
+        /**
+         * The test case.
+         */
+        private final TestCase method;
+
+        /**
+         * The assertion.
+         */
+        private final Assertion assertion;
+
+        /**
+         * Ctor.
+         * @param test The test case.
+         * @param check The assertion.
+         */
+        EmptyAssertionMessage(final TestCase test, final Assertion check) {
+            this.method = test;
+            this.assertion = check;
+        }
+
+        @Override
+        public String message() {
+            return new ComplaintWithRule(
+                String.format(
+                    "Method '%s' has assertion without message: '%s'",
+                    this.method.name(),
+                    this.assertion
+                ),
+                RuleAssertionMessage.class
+            ).message();
+        }
+    }
+}
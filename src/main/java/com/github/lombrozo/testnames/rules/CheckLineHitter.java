@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+import com.github.lombrozo.testnames.Assertion;
+import com.github.lombrozo.testnames.CaseRule;
+import com.github.lombrozo.testnames.ComplaintSink;
+import com.github.lombrozo.testnames.Facts;
+import com.github.lombrozo.testnames.TestCase;
+import com.github.lombrozo.testnames.complaints.ComplaintWithRule;
+
+/**
+ * Stateless check of {@link LineHitterRule}.
+ *
+ * @since 1.5
+ */
+final class CheckLineHitter implements CaseRule {
+
+    /**
+     * Name of the rule.
+     */
+    private static final String NAME = "LineHitterRule";
+
+    @Override
+    public String name() {
+        return CheckLineHitter.NAME;
+    }
+
+    @Override
+    public Facts facts() {
+        return Facts.BODIES;
+    }
+
+    @Override
+    public void check(final TestCase test, final ComplaintSink sink) {
+        boolean hitter = false;
+        for (final Assertion assertion : test.assertions()) {
+            if (assertion.isLineHitter()) {
+                hitter = true;
+                break;
+            }
+        }
+        if (hitter) {
+            sink.accept(
+                new ComplaintWithRule(
+                    String.format(
+                        "Method '%s' doesn't have any valuable assertion, which is known as \"Line-Hitter\" anti-pattern",
+                        test.name()
+                    ),
+                    LineHitterRule.class
+                )
+            );
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+import com.github.lombrozo.testnames.CaseRule;
+import com.github.lombrozo.testnames.ComplaintSink;
+import com.github.lombrozo.testnames.Facts;
+import com.github.lombrozo.testnames.Parameters;
+import com.github.lombrozo.testnames.TestCase;
+import com.github.lombrozo.testnames.complaints.ComplaintWithRule;
+import com.github.lombrozo.testnames.javaparser.NumberOfMockitoMocks;
+
+/**
+ * Stateless check of {@link RuleTestCaseContainsMockery}.
+ *
+ * @since 1.5
+ */
+final class CheckMockery implements CaseRule {
+
+    /**
+     * Name of the rule.
+     */
+    private static final String NAME = RuleTestCaseContainsMockery.class.getSimpleName();
+
+    /**
+     * Allowed number of mocks.
+     */
+    private final int allowed;
+
+    /**
+     * Ctor.
+     * @param params Parameters.
+     */
+    CheckMockery(final Parameters params) {
+        this(params.intValue("maxNumberOfMocks").orElse(2));
+    }
+
+    /**
+     * Ctor.
+     * @param allwd Allowed number of mocks
+     */
+    CheckMockery(final int allwd) {
+        this.allowed = allwd;
+    }
+
+    @Override
+    public String name() {
+        return CheckMockery.NAME;
+    }
+
+    @Override
+    public Facts facts() {
+        return Facts.BODIES;
+    }
+
+    @Override
+    public void check(final TestCase test, final ComplaintSink sink) {
+        final long mocks = new NumberOfMockitoMocks(test).value();
+        if (mocks > (long) this.allowed) {
+            sink.accept(
+                new ComplaintWithRule(
+                    String.format(
+                        "Method '%s' contains excessive number of mocks: %s. max allowed: %s",
+                        test.name(),
+                        mocks,
+                        this.allowed
+                    ),
+                    RuleTestCaseContainsMockery.class
+                )
+            );
+        }
+    }
+}
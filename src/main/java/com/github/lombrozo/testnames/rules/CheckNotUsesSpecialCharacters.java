@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+import com.github.lombrozo.testnames.ComplaintSink;
+import com.github.lombrozo.testnames.TestCase;
+import com.github.lombrozo.testnames.complaints.ComplaintWithRule;
+import com.github.lombrozo.testnames.complaints.ComplaintWrongTestName;
+
+/**
+ * Stateless check of {@link RuleNotUsesSpecialCharacters}.
+ *
+ * @since 1.5
+ */
+final class CheckNotUsesSpecialCharacters implements NameRule {
+
+    /**
+     * Name of the rule.
+     */
+    private static final String NAME = RuleNotUsesSpecialCharacters.class.getSimpleName();
+
+    @Override
+    public String name() {
+        return CheckNotUsesSpecialCharacters.NAME;
+    }
+
+    @Override
+    public void check(final TestCase test, final int facts, final ComplaintSink sink) {
+        if (NameFacts.specialCharacters(facts)) {
+            sink.accept(
+                new ComplaintWithRule(
+                    new ComplaintWrongTestName(
+                        test,
+                        "test name shouldn't contain special characters like '$' or '_'"
+                    ).message(),
+                    RuleNotUsesSpecialCharacters.class
+                )
+            );
+        }
+    }
+}
@@ -23,11 +23,9 @@
  */
 package com.github.lombrozo.testnames.rules;
 
-import com.github.lombrozo.testnames.Assertion;
 import com.github.lombrozo.testnames.Complaint;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestCase;
-import com.github.lombrozo.testnames.complaints.ComplaintWithRule;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -66,26 +64,6 @@ public final class LineHitterRule implements Rule {
 
     @Override
     public Collection<Complaint> complaints() {
-        return new RuleConditional(
-            this::containsLineHitter,
-            new ComplaintWithRule(
-                String.format(
-                    "Method '%s' doesn't have any valuable assertion, which is known as \"Line-Hitter\" anti-pattern",
-                    this.test.name()
-                ),
-                this.getClass()
-            )
-        ).complaints();
-    }
-
-    /**
-     * Just checks if collections contain line hitter.
-     *
-     * @return True if contains line hitter
-     */
-    private Boolean containsLineHitter() {
-        return this.test.assertions()
-            .stream()
-            .anyMatch(Assertion::isLineHitter);
+        return new CheckLineHitter().complaints(this.test);
     }
 }
@@ -0,0 +1,182 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+/**
+ * Facts about a test name, collected in a single pass.
+ * <p>
+ * The name rules used to scan the name independently, each with its own
+ * {@code toCharArray()} or {@code contains(...)}. Here the name is scanned
+ * once, char by char, without allocations, and all the facts are kept in an
+ * {@code int} bit mask that the rules read.
+ * </p>
+ *
+ * @since 1.5
+ */
+final class NameFacts {
+
+    /**
+     * The name starts with an upper case letter.
+     */
+    private static final int CAPITAL = 1;
+
+    /**
+     * The name contains the same symbol four or more times in a row.
+     */
+    private static final int SPAM = 1 << 1;
+
+    /**
+     * The first word of the name ends with 's'.
+     */
+    private static final int PRESENT = 1 << 2;
+
+    /**
+     * The name contains '$' or '_'.
+     */
+    private static final int SPECIAL = 1 << 3;
+
+    /**
+     * The name contains "test", "Test" or "TEST".
+     */
+    private static final int TEST = 1 << 4;
+
+    /**
+     * Utility class.
+     */
+    private NameFacts() {
+        // Utility class
+    }
+
+    /**
+     * Does the name start with an upper case letter?
+     * @param facts Facts collected by {@link #scan(String)}.
+     * @return True if it isn't written in camel case.
+     */
+    static boolean notCamelCase(final int facts) {
+        return (facts & NameFacts.CAPITAL) != 0;
+    }
+
+    /**
+     * Does the name contain the same symbol four or more times in a row?
+     * @param facts Facts collected by {@link #scan(String)}.
+     * @return True if it's spam.
+     */
+    static boolean spam(final int facts) {
+        return (facts & NameFacts.SPAM) != 0;
+    }
+
+    /**
+     * Is the first word of the name in present tense?
+     * @param facts Facts collected by {@link #scan(String)}.
+     * @return True if the first word ends with 's'.
+     */
+    static boolean presentTense(final int facts) {
+        return (facts & NameFacts.PRESENT) != 0;
+    }
+
+    /**
+     * Does the name contain special characters?
+     * @param facts Facts collected by {@link #scan(String)}.
+     * @return True if it contains '$' or '_'.
+     */
+    static boolean specialCharacters(final int facts) {
+        return (facts & NameFacts.SPECIAL) != 0;
+    }
+
+    /**
+     * Does the name contain the word "test"?
+     * @param facts Facts collected by {@link #scan(String)}.
+     * @return True if it contains "test", "Test" or "TEST".
+     */
+    static boolean testWord(final int facts) {
+        return (facts & NameFacts.TEST) != 0;
+    }
+
+    /**
+     * Scan the name.
+     * @param name The name.
+     * @return Collected facts.
+     * @checkstyle CyclomaticComplexityCheck (60 lines)
+     * @checkstyle NPathComplexityCheck (60 lines)
+     */
+    @SuppressWarnings({"PMD.CognitiveComplexity", "PMD.CyclomaticComplexity"})
+    static int scan(final String name) {
+        int result = 0;
+        final int length = name.length();
+        if (length > 0 && Character.isUpperCase(name.charAt(0))) {
+            result |= NameFacts.CAPITAL;
+        }
+        char prev = '!';
+        int repeats = 0;
+        char word = '!';
+        boolean first = true;
+        char third = 0;
+        char second = 0;
+        char last = 0;
+        for (int idx = 0; idx < length; ++idx) {
+            final char chr = name.charAt(idx);
+            if (chr == prev) {
+                ++repeats;
+            } else {
+                repeats = 0;
+                prev = chr;
+            }
+            if (repeats > 2) {
+                result |= NameFacts.SPAM;
+            }
+            if (first && Character.isUpperCase(chr)) {
+                first = false;
+            } else if (first) {
+                word = chr;
+            }
+            if (chr == '$' || chr == '_') {
+                result |= NameFacts.SPECIAL;
+            }
+            if (NameFacts.test(third, second, last, chr)) {
+                result |= NameFacts.TEST;
+            }
+            third = second;
+            second = last;
+            last = chr;
+        }
+        if (word == 's') {
+            result |= NameFacts.PRESENT;
+        }
+        return result;
+    }
+
+    /**
+     * Do four chars in a row spell the word "test"?
+     * @param one First char.
+     * @param two Second char.
+     * @param three Third char.
+     * @param four Fourth char.
+     * @return True if they spell "test", "Test" or "TEST".
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static boolean test(final char one, final char two, final char three, final char four) {
+        return four == 't' && two == 'e' && three == 's' && (one == 't' || one == 'T')
+            || one == 'T' && two == 'E' && three == 'S' && four == 'T';
+    }
+}
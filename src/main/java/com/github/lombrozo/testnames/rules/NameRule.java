@@ -0,0 +1,61 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+import com.github.lombrozo.testnames.CaseRule;
+import com.github.lombrozo.testnames.ComplaintSink;
+import com.github.lombrozo.testnames.Facts;
+import com.github.lombrozo.testnames.TestCase;
+
+/**
+ * Stateless rule that checks the name of a test case.
+ * All name rules read the facts of a single scan of the name, see
+ * {@link NameFacts}.
+ *
+ * @since 1.5
+ */
+interface NameRule extends CaseRule {
+
+    /**
+     * Check the test case by the facts about its name.
+     * @param test The test case
+     * @param facts Facts about the name collected by {@link NameFacts#scan(String)}
+     * @param sink Receiver of complaints
+     */
+    void check(TestCase test, int facts, ComplaintSink sink);
+
+    /**
+     * Names of test cases are known only from the structure of a test class.
+     * @return The tier of structure
+     */
+    @Override
+    default Facts facts() {
+        return Facts.STRUCTURE;
+    }
+
+    @Override
+    default void check(final TestCase test, final ComplaintSink sink) {
+        this.check(test, NameFacts.scan(test.name()), sink);
+    }
+}
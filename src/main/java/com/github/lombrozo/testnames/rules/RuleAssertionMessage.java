@@ -23,12 +23,9 @@
  */
 package com.github.lombrozo.testnames.rules;
 
-import com.github.lombrozo.testnames.Assertion;
 import com.github.lombrozo.testnames.Complaint;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestCase;
-import com.github.lombrozo.testnames.complaints.ComplaintWithRule;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -60,87 +57,6 @@ final class RuleAssertionMessage implements Rule {
 
     @Override
     public Collection<Complaint> complaints() {
-        final Collection<Assertion> assertions = this.method.assertions();
-        final Collection<Complaint> res = new ArrayList<>(0);
-        if (assertions.isEmpty()) {
-            res.add(new EmptyAssertions(this.method));
-        }
-        assertions.stream()
-            .filter(assertion -> !assertion.explanation().isPresent())
-            .map(assertion -> new EmptyAssertionMessage(this.method, assertion))
-            .forEach(res::add);
-        return Collections.unmodifiableCollection(res);
+        return new CheckAssertionMessage().complaints(this.method);
     }
-
-    /**
-     * The complaint about empty assertions.
-     * @since 0.1.15
-     */
-    private static final class EmptyAssertions implements Complaint {
-
-        /**
-         * The test case.
-         */
-        private final TestCase method;
-
-        /**
-         * Ctor.
-         * @param test The test case.
-         */
-        EmptyAssertions(final TestCase test) {
-            this.method = test;
-        }
-
-        @Override
-        public String message() {
-            return new ComplaintWithRule(
-                String.format(
-                    "Method '%s' doesn't have assertion statements, while their presence is expected",
-                    this.method.name()
-                ),
-                RuleAssertionMessage.class
-            ).message();
-        }
-    }
-
-    /**
-     * The complaint about empty assertion message.
-     *
-     * @since 0.1.15
-     */
-    private static final class EmptyAssertionMessage implements Complaint {
-
-        /**
-         * The test case.
-         */
-        private final TestCase method;
-
-        /**
-         * The assertion.
-         */
-        private final Assertion assertion;
-
-        /**
-         * Ctor.
-         * @param test The test case.
-         * @param check The assertion.
-         */
-        EmptyAssertionMessage(final TestCase test, final Assertion check) {
-            this.method = test;
-            this.assertion = check;
-        }
-
-        @Override
-        public String message() {
-            return new ComplaintWithRule(
-                String.format(
-                    "Method '%s' has assertion without message: '%s'",
-                    this.method.name(),
-                    this.assertion
-                ),
-                RuleAssertionMessage.class
-            ).message();
-        }
-    }
-
 }
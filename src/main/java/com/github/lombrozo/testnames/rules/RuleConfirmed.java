@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.Rule;
+import com.github.lombrozo.testnames.TestClass;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Rule whose complaints are confirmed by the test class.
+ * <p>
+ * At the tier of names, projects recognise test classes by their text, so
+ * a file that mentions tests only in a comment, or a JUnit extension, may be
+ * taken for a test class. Complaints of the rule are reported only if the
+ * class really contains tests and isn't a JUnit extension. The class is
+ * checked only if the rule complains, so a correct test class isn't parsed.
+ * </p>
+ *
+ * @since 1.5
+ */
+public final class RuleConfirmed implements Rule {
+
+    /**
+     * The origin rule.
+     */
+    private final Rule origin;
+
+    /**
+     * The test class to confirm complaints by.
+     */
+    private final TestClass test;
+
+    /**
+     * Ctor.
+     * @param rule The origin rule
+     * @param klass The test class to confirm complaints by
+     */
+    public RuleConfirmed(final Rule rule, final TestClass klass) {
+        this.origin = rule;
+        this.test = klass;
+    }
+
+    @Override
+    public List<String> aliases() {
+        return this.origin.aliases();
+    }
+
+    @Override
+    public Collection<Complaint> complaints() {
+        final Collection<Complaint> found = this.origin.complaints();
+        final Collection<Complaint> result;
+        if (found.isEmpty() || this.confirmed()) {
+            result = found;
+        } else {
+            result = Collections.emptyList();
+        }
+        return result;
+    }
+
+    /**
+     * Check if the class is a test that can have complaints.
+     * @return True if the class contains tests and isn't a JUnit extension
+     */
+    private boolean confirmed() {
+        return this.test.isTest() && !this.test.characteristics().isJUnitExtension();
+    }
+}
@@ -24,6 +24,7 @@
 
 package com.github.lombrozo.testnames.rules;
 
+import com.github.lombrozo.testnames.CaseRule;
 import com.github.lombrozo.testnames.Complaint;
 import com.github.lombrozo.testnames.Parameters;
 import com.github.lombrozo.testnames.Rule;
@@ -31,8 +32,6 @@ import com.github.lombrozo.testnames.TestCase;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * The rule checks if test case in present simple.
@@ -42,10 +41,15 @@ import java.util.stream.Stream;
 @SuppressWarnings("PMD.TestClassWithoutTestCases")
 public final class RuleCorrectTestCase implements Rule {
 
+    /**
+     * The test case to check.
+     */
+    private final TestCase test;
+
     /**
      * The rules.
      */
-    private final Collection<Rule> all;
+    private final CaseRule all;
 
     /**
      * Ctor.
@@ -54,16 +58,18 @@ public final class RuleCorrectTestCase implements Rule {
      * @param parameters Parameters to use for the check.
      */
     RuleCorrectTestCase(final TestCase test, final Parameters parameters) {
-        this.all = Stream.of(
-            new RuleNotCamelCase(test),
-            new RuleNotContainsTestWord(test),
-            new RuleNotSpam(test),
-            new RuleNotUsesSpecialCharacters(test),
-            new RulePresentTense(test),
-            new RuleAssertionMessage(test),
-            new LineHitterRule(test),
-            new RuleTestCaseContainsMockery(test, parameters)
-        ).map(rule -> new RuleSuppressed(rule, test)).collect(Collectors.toList());
+        this(test, new CaseRules(parameters));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param test The test case to check
+     * @param rules The rules for test cases.
+     */
+    RuleCorrectTestCase(final TestCase test, final CaseRule rules) {
+        this.test = test;
+        this.all = rules;
     }
 
     @Override
@@ -73,9 +79,6 @@ public final class RuleCorrectTestCase implements Rule {
 
     @Override
     public Collection<Complaint> complaints() {
-        return this.all.stream()
-            .map(Rule::complaints)
-            .flatMap(Collection::stream)
-            .collect(Collectors.toList());
+        return this.all.complaints(this.test);
     }
 }
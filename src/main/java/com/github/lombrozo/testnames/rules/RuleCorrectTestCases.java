@@ -24,14 +24,16 @@
 
 package com.github.lombrozo.testnames.rules;
 
+import com.github.lombrozo.testnames.CaseRule;
 import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.ComplaintSink;
 import com.github.lombrozo.testnames.Parameters;
 import com.github.lombrozo.testnames.Rule;
+import com.github.lombrozo.testnames.TestCase;
 import com.github.lombrozo.testnames.TestClass;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * The rule to check all tests on {@link RuleCorrectTestCase}.
@@ -47,9 +49,9 @@ public final class RuleCorrectTestCases implements Rule {
     private final TestClass tests;
 
     /**
-     * Parameters to use for the check.
+     * Rules for test cases.
      */
-    private final Parameters parameters;
+    private final CaseRule rules;
 
     /**
      * Ctor.
@@ -66,8 +68,19 @@ public final class RuleCorrectTestCases implements Rule {
      * @param parameters The parameters to use for the check.
      */
     public RuleCorrectTestCases(final TestClass cases, final Parameters parameters) {
+        this(cases, new CaseRules(parameters));
+    }
+
+    /**
+     * Ctor.
+     * The same rules may check test cases of all test classes.
+     *
+     * @param cases The cases to check
+     * @param rules The rules for test cases.
+     */
+    public RuleCorrectTestCases(final TestClass cases, final CaseRule rules) {
         this.tests = cases;
-        this.parameters = parameters;
+        this.rules = rules;
     }
 
     @Override
@@ -77,21 +90,10 @@ public final class RuleCorrectTestCases implements Rule {
 
     @Override
     public Collection<Complaint> complaints() {
-        final List<Complaint> list = this.tests.all().stream()
-            .map(
-                test ->
-                    new RuleSuppressed(
-                        new RuleCorrectTestCase(test, this.parameters), test
-                    )
-            ).map(Rule::complaints)
-            .flatMap(Collection::stream)
-            .collect(Collectors.toList());
-        final Collection<Complaint> result;
-        if (list.isEmpty()) {
-            result = Collections.emptyList();
-        } else {
-            result = list;
+        final ComplaintSink.Listed sink = new ComplaintSink.Listed();
+        for (final TestCase test : this.tests.all()) {
+            this.rules.check(test, sink);
         }
-        return result;
+        return sink.complaints();
     }
 }
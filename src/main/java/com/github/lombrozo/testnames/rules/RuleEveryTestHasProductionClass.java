@@ -24,7 +24,7 @@
 package com.github.lombrozo.testnames.rules;
 
 import com.github.lombrozo.testnames.Complaint;
-import com.github.lombrozo.testnames.ProductionClass;
+import com.github.lombrozo.testnames.ProductionIndex;
 import com.github.lombrozo.testnames.Project;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestClass;
@@ -34,10 +34,6 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * The rule that checks that all tests have production class.
@@ -57,19 +53,9 @@ public final class RuleEveryTestHasProductionClass implements Rule {
     public static final String SECOND_NAME = "RuleAllTestsHaveProductionClass";
 
     /**
-     * The pattern to replace the underscore sign "_".
+     * The production classes of the project.
      */
-    private static final Pattern UNDERSCORE = Pattern.compile("_");
-
-    /**
-     * The pattern to replace the dollar sign "$".
-     */
-    private static final Pattern DOLLAR = Pattern.compile("\\$");
-
-    /**
-     * The project to check.
-     */
-    private final Project project;
+    private final ProductionIndex production;
 
     /**
      * Test class to check.
@@ -82,7 +68,16 @@ public final class RuleEveryTestHasProductionClass implements Rule {
      * @param test The test to check.
      */
     public RuleEveryTestHasProductionClass(final Project proj, final TestClass test) {
-        this.project = proj;
+        this(new ProductionIndex(proj), test);
+    }
+
+    /**
+     * Ctor.
+     * @param index The production classes of the project.
+     * @param test The test to check.
+     */
+    public RuleEveryTestHasProductionClass(final ProductionIndex index, final TestClass test) {
+        this.production = index;
         this.test = test;
     }
 
@@ -97,19 +92,9 @@ public final class RuleEveryTestHasProductionClass implements Rule {
     public Collection<Complaint> complaints() {
         final Collection<Complaint> result;
         if (this.isTest()) {
-            final Map<String, ProductionClass> classes = this.project.productionClasses()
-                .stream()
-                .filter(clazz -> RuleEveryTestHasProductionClass.isNotPackageInfo(clazz.name()))
-                .collect(
-                    Collectors.toMap(
-                        RuleEveryTestHasProductionClass::correspondingTest,
-                        Function.identity(),
-                        (first, second) -> first
-                    )
-                );
             final Collection<Complaint> complaints = new ArrayList<>(0);
-            final String name = RuleEveryTestHasProductionClass.clean(this.test.name());
-            if (!classes.containsKey(name)
+            final String name = ProductionIndex.normalized(this.test.name());
+            if (!this.production.covers(name)
                 && !this.test.characteristics().isIntegrationTest()
                 && RuleEveryTestHasProductionClass.isNotPackageInfo(this.test.name())) {
                 complaints.add(
@@ -129,34 +114,6 @@ public final class RuleEveryTestHasProductionClass implements Rule {
         return result;
     }
 
-    /**
-     * Returns the name of the test class that corresponds to the production class.
-     * @param clazz Production class.
-     * @return The name of the test class that corresponds to the production class.
-     */
-    private static String correspondingTest(final ProductionClass clazz) {
-        return String.format("%sTest", RuleEveryTestHasProductionClass.clean(clazz.name()));
-    }
-
-    /**
-     * Removes that not important part of the name.
-     * @param original The original name.
-     * @return The cleaned name.
-     */
-    private static String clean(final String original) {
-        final String plain;
-        if (original.endsWith(".java")) {
-            plain = original.substring(0, original.length() - 5);
-        } else if (original.endsWith(".class")) {
-            plain = original.substring(0, original.length() - 6);
-        } else {
-            plain = original;
-        }
-        return RuleEveryTestHasProductionClass.DOLLAR.matcher(
-            RuleEveryTestHasProductionClass.UNDERSCORE.matcher(plain).replaceAll("")
-        ).replaceAll("");
-    }
-
     /**
      * Checks that the name is not package-info.java.
      * @param name The name to check.
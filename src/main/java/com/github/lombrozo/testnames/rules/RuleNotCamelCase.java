@@ -27,8 +27,6 @@ package com.github.lombrozo.testnames.rules;
 import com.github.lombrozo.testnames.Complaint;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestCase;
-import com.github.lombrozo.testnames.complaints.ComplaintWithRule;
-import com.github.lombrozo.testnames.complaints.ComplaintWrongTestName;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -66,35 +64,6 @@ public final class RuleNotCamelCase implements Rule {
 
     @Override
     public Collection<Complaint> complaints() {
-        return new RuleConditional(
-            this::notCamelCase,
-            new ComplaintWithRule(
-                new ComplaintWrongTestName(
-                    this.test,
-                    "test has to be written by using Camel Case"
-                ).message(),
-                this.getClass()
-            )
-        ).complaints();
-    }
-
-    /**
-     * Is not in camel case.
-     *
-     * @return The result
-     * @checkstyle ReturnCountCheck (15 lines)
-     */
-    @SuppressWarnings("PMD.OnlyOneReturn")
-    private boolean notCamelCase() {
-        int stack = 0;
-        for (final char chr : this.test.name().toCharArray()) {
-            if (Character.isUpperCase(chr) && stack == 0) {
-                return true;
-            } else if (stack != 0) {
-                stack = 0;
-            }
-            ++stack;
-        }
-        return false;
+        return new CheckNotCamelCase().complaints(this.test);
     }
 }
@@ -27,12 +27,9 @@ package com.github.lombrozo.testnames.rules;
 import com.github.lombrozo.testnames.Complaint;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestCase;
-import com.github.lombrozo.testnames.complaints.ComplaintWithRule;
-import com.github.lombrozo.testnames.complaints.ComplaintWrongTestName;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Stream;
 
 /**
  * Test case without a 'test' word in name.
@@ -67,24 +64,6 @@ public final class RuleNotContainsTestWord implements Rule {
 
     @Override
     public Collection<Complaint> complaints() {
-        return new RuleConditional(
-            this::containsTest,
-            new ComplaintWithRule(
-                new ComplaintWrongTestName(
-                    this.test,
-                    "test name should not contain the word 'test'"
-                ).message(),
-                this.getClass()
-            )
-        ).complaints();
-    }
-
-    /**
-     * Is contains the 'test' word.
-     *
-     * @return The result
-     */
-    private boolean containsTest() {
-        return Stream.of("test", "TEST", "Test").anyMatch(this.test.name()::contains);
+        return new CheckNotContainsTestWord().complaints(this.test);
     }
 }
@@ -27,8 +27,6 @@ package com.github.lombrozo.testnames.rules;
 import com.github.lombrozo.testnames.Complaint;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestCase;
-import com.github.lombrozo.testnames.complaints.ComplaintWithRule;
-import com.github.lombrozo.testnames.complaints.ComplaintWrongTestName;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -61,39 +59,6 @@ public final class RuleNotSpam implements Rule {
 
     @Override
     public Collection<Complaint> complaints() {
-        return new RuleConditional(
-            () -> !this.notSpam(),
-            new ComplaintWithRule(
-                new ComplaintWrongTestName(
-                    this.test,
-                    "test name doesn't have to contain duplicated symbols"
-                ).message(),
-                this.getClass()
-            )
-        ).complaints();
-    }
-
-    /**
-     * Check symbols duplication in test case name.
-     *
-     * @return The result
-     * @checkstyle ReturnCountCheck (30 lines)
-     */
-    @SuppressWarnings("PMD.OnlyOneReturn")
-    private boolean notSpam() {
-        int stack = 0;
-        char prev = '!';
-        for (final char chr : this.test.name().toCharArray()) {
-            if (chr == prev) {
-                ++stack;
-            } else {
-                stack = 0;
-                prev = chr;
-            }
-            if (stack > 2) {
-                return false;
-            }
-        }
-        return true;
+        return new CheckNotSpam().complaints(this.test);
     }
 }
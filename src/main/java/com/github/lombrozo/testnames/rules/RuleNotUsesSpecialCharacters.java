@@ -27,8 +27,6 @@ package com.github.lombrozo.testnames.rules;
 import com.github.lombrozo.testnames.Complaint;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestCase;
-import com.github.lombrozo.testnames.complaints.ComplaintWithRule;
-import com.github.lombrozo.testnames.complaints.ComplaintWrongTestName;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -61,24 +59,6 @@ public final class RuleNotUsesSpecialCharacters implements Rule {
 
     @Override
     public Collection<Complaint> complaints() {
-        return new RuleConditional(
-            this::usesSpecialCharacters,
-            new ComplaintWithRule(
-                new ComplaintWrongTestName(
-                    this.test,
-                    "test name shouldn't contain special characters like '$' or '_'"
-                ).message(),
-                this.getClass()
-            )
-        ).complaints();
-    }
-
-    /**
-     * Is contain special chars.
-     *
-     * @return The result
-     */
-    private boolean usesSpecialCharacters() {
-        return this.test.name().contains("$") || this.test.name().contains("_");
+        return new CheckNotUsesSpecialCharacters().complaints(this.test);
     }
 }
@@ -27,8 +27,6 @@ package com.github.lombrozo.testnames.rules;
 import com.github.lombrozo.testnames.Complaint;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestCase;
-import com.github.lombrozo.testnames.complaints.ComplaintWithRule;
-import com.github.lombrozo.testnames.complaints.ComplaintWrongTestName;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -61,35 +59,6 @@ public final class RulePresentTense implements Rule {
 
     @Override
     public Collection<Complaint> complaints() {
-        return new RuleConditional(
-            () -> !this.presentTense(),
-            new ComplaintWithRule(
-                new ComplaintWrongTestName(
-                    this.test,
-                    "the test name has to be written using present tense"
-                ).message(),
-                this.getClass()
-            )
-        ).complaints();
-    }
-
-    /**
-     * Is test case name in present tense.
-     *
-     * @return The result
-     * @checkstyle ReturnCountCheck (20 lines)
-     */
-    @SuppressWarnings("PMD.OnlyOneReturn")
-    private boolean presentTense() {
-        final char[] chars = this.test.name().toCharArray();
-        char prev = '!';
-        for (final char chr : chars) {
-            if (Character.isUpperCase(chr)) {
-                return prev == 's';
-            } else {
-                prev = chr;
-            }
-        }
-        return prev == 's';
+        return new CheckPresentTense().complaints(this.test);
     }
 }
@@ -24,15 +24,24 @@
 package com.github.lombrozo.testnames.rules;
 
 import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.Facts;
 import com.github.lombrozo.testnames.Rule;
+import com.github.lombrozo.testnames.Suppression;
 import com.github.lombrozo.testnames.TestCase;
 import com.github.lombrozo.testnames.TestClass;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
 
 /**
  * Suppressed rule.
+ * <p>
+ * Suppressed rules are read only when they are needed. A rule that needs
+ * only names of test classes is checked first, and the suppressed rules are
+ * read only if it complains, so a correct test class isn't parsed at all.
+ * </p>
  *
  * @since 0.1.14
  */
@@ -43,9 +52,14 @@ public final class RuleSuppressed implements Rule {
     private final Rule delegate;
 
     /**
-     * The suppressed rules.
+     * The suppressed rules, read only once.
      */
-    private final Collection<String> suppressed;
+    private final Unchecked<Suppression> suppressed;
+
+    /**
+     * The tier of facts the delegate needs.
+     */
+    private final Facts tier;
 
     /**
      * Ctor.
@@ -53,7 +67,17 @@ public final class RuleSuppressed implements Rule {
      * @param test The test
      */
     public RuleSuppressed(final Rule rule, final TestClass test) {
-        this(rule, test.suppressed());
+        this(rule, test, Facts.TYPES);
+    }
+
+    /**
+     * Ctor.
+     * @param rule The delegate
+     * @param test The test
+     * @param facts The tier of facts the delegate needs
+     */
+    public RuleSuppressed(final Rule rule, final TestClass test, final Facts facts) {
+        this(rule, new Unchecked<>(new Sticky<>(test::suppression)), facts);
     }
 
     /**
@@ -61,7 +85,13 @@ public final class RuleSuppressed implements Rule {
      * @param rule The delegate
      */
     RuleSuppressed(final Rule rule) {
-        this(rule, Collections.singleton(rule.getClass().getSimpleName()));
+        this(
+            rule,
+            new Unchecked<>(
+                () -> new Suppression(Collections.singleton(rule.getClass().getSimpleName()))
+            ),
+            Facts.TYPES
+        );
     }
 
     /**
@@ -70,17 +100,23 @@ public final class RuleSuppressed implements Rule {
      * @param test Test case
      */
     RuleSuppressed(final Rule rule, final TestCase test) {
-        this(rule, test.suppressed());
+        this(rule, new Unchecked<>(test::suppression), Facts.TYPES);
     }
 
     /**
      * Ctor.
      * @param rule The delegate
      * @param hidden The suppressed rules
+     * @param facts The tier of facts the delegate needs
      */
-    private RuleSuppressed(final Rule rule, final Collection<String> hidden) {
+    private RuleSuppressed(
+        final Rule rule,
+        final Unchecked<Suppression> hidden,
+        final Facts facts
+    ) {
         this.delegate = rule;
         this.suppressed = hidden;
+        this.tier = facts;
     }
 
     @Override
@@ -91,7 +127,14 @@ public final class RuleSuppressed implements Rule {
     @Override
     public Collection<Complaint> complaints() {
         final Collection<Complaint> result;
-        if (this.isSuppressed()) {
+        if (this.tier == Facts.NAMES) {
+            final Collection<Complaint> found = this.delegate.complaints();
+            if (found.isEmpty() || this.isSuppressed()) {
+                result = Collections.emptyList();
+            } else {
+                result = found;
+            }
+        } else if (this.isSuppressed()) {
             result = Collections.emptyList();
         } else {
             result = this.delegate.complaints();
@@ -104,8 +147,6 @@ public final class RuleSuppressed implements Rule {
      * @return True if suppressed
      */
     private boolean isSuppressed() {
-        return this.suppressed.stream().anyMatch(
-            hidden -> this.delegate.aliases().contains(hidden)
-        );
+        return this.suppressed.value().hasAny(this.delegate.aliases());
     }
 }
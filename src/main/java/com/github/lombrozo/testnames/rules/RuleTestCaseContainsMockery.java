@@ -27,8 +27,6 @@ import com.github.lombrozo.testnames.Complaint;
 import com.github.lombrozo.testnames.Parameters;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestCase;
-import com.github.lombrozo.testnames.complaints.ComplaintWithRule;
-import com.github.lombrozo.testnames.javaparser.NumberOfMockitoMocks;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -81,18 +79,6 @@ public final class RuleTestCaseContainsMockery implements Rule {
 
     @Override
     public Collection<Complaint> complaints() {
-        final Long mocks = new NumberOfMockitoMocks(this.test).value();
-        return new RuleConditional(
-            () -> mocks > (long) this.allowed,
-            new ComplaintWithRule(
-                String.format(
-                    "Method '%s' contains excessive number of mocks: %s. max allowed: %s",
-                    this.test.name(),
-                    mocks,
-                    this.allowed
-                ),
-                this.getClass()
-            )
-        ).complaints();
+        return new CheckMockery(this.allowed).complaints(this.test);
     }
 }
@@ -25,7 +25,9 @@
 package com.github.lombrozo.testnames.rules.ml;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import opennlp.tools.postag.POSModel;
 import org.cactoos.Scalar;
@@ -33,6 +35,13 @@ import org.cactoos.scalar.Sticky;
 
 /**
  * Cached model source.
+ * The model is cached in the local Maven repository by default,
+ * together with its checksum.
+ * <p>
+ * The checksum is computed from the downloaded model when it's cached, so it
+ * doesn't prove that the download is authentic. It only detects that the
+ * cached model was corrupted or changed after caching.
+ * </p>
  *
  * @since 1.3.2
  */
@@ -76,6 +85,8 @@ public final class CachedModelSource implements ModelSource {
 
 /**
  * Model cached in file system.
+ * The cached model is always verified by its cached checksum.
+ * A cached model without the checksum isn't trusted.
  * @since 1.3.2
  */
 final class CachedModelFs implements Scalar<POSModel> {
@@ -95,7 +106,7 @@ final class CachedModelFs implements Scalar<POSModel> {
      * @param orgn Origin
      */
     CachedModelFs(final ModelSource orgn) {
-        this(orgn, "src/test/resources/ml/cached.bin");
+        this(orgn, ModelSourceLocal.CACHE.toFile());
     }
 
     /**
@@ -120,18 +131,31 @@ final class CachedModelFs implements Scalar<POSModel> {
     @Override
     public POSModel value() throws Exception {
         final POSModel model;
-        if (this.cached.exists()) {
-            model = new POSModel(this.cached);
+        final Path checksum = Paths.get(
+            String.format("%s%s", this.cached, ModelSourceVerified.EXTENSION)
+        );
+        if (this.cached.exists() && checksum.toFile().exists()) {
+            model = new ModelSourceVerified(this.cached.toPath()).model();
+        } else if (this.cached.exists()) {
+            throw new IllegalStateException(
+                String.format(
+                    "The cached model %s has no checksum %s, remove the model to download it again",
+                    this.cached,
+                    checksum
+                )
+            );
         } else {
-            if (!this.cached.toPath().isAbsolute() && !this.cached.exists()) {
-                Files.createDirectory(
-                    Paths.get(
-                        this.cached.getParent()
-                    )
-                );
+            final Path parent = this.cached.getAbsoluteFile().toPath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
             }
             model = this.origin.model();
             model.serialize(this.cached);
+            Files.write(
+                checksum,
+                ModelSourceVerified.digest(Files.readAllBytes(this.cached.toPath()))
+                    .getBytes(StandardCharsets.UTF_8)
+            );
         }
         return model;
     }
@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules.ml;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import opennlp.tools.postag.POSModel;
+
+/**
+ * Chain of model sources.
+ * Takes the model from the first source that can provide it.
+ *
+ * @since 1.5
+ */
+public final class ModelSourceChain implements ModelSource {
+
+    /**
+     * Sources in the order of preference.
+     */
+    private final Collection<? extends ModelSource> sources;
+
+    /**
+     * Constructor.
+     * @param sources Sources in the order of preference
+     */
+    public ModelSourceChain(final ModelSource... sources) {
+        this(Arrays.asList(sources));
+    }
+
+    /**
+     * Constructor.
+     * @param sources Sources in the order of preference
+     */
+    public ModelSourceChain(final Collection<? extends ModelSource> sources) {
+        this.sources = sources;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public POSModel model() {
+        final IllegalStateException failure = new IllegalStateException(
+            String.format(
+                "None of %d model sources can provide the model, see suppressed exceptions",
+                this.sources.size()
+            )
+        );
+        final Iterator<? extends ModelSource> iter = this.sources.iterator();
+        POSModel model = null;
+        boolean found = false;
+        // @checkstyle IllegalCatchCheck (7 lines)
+        while (!found && iter.hasNext()) {
+            try {
+                model = iter.next().model();
+                found = true;
+            } catch (final Exception ex) {
+                failure.addSuppressed(ex);
+            }
+        }
+        if (!found) {
+            throw failure;
+        }
+        return model;
+    }
+}
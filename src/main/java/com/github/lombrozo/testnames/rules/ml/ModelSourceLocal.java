@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules.ml;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import opennlp.tools.postag.POSModel;
+
+/**
+ * Model source that works offline.
+ * <p>
+ * Resolves the POS model cached in the local Maven repository and verified
+ * by checksum, see {@link ModelSourceVerified}. The model isn't bundled with
+ * the plugin, so without the cache it has to be downloaded. The network is
+ * used only if the download is allowed explicitly: then the model is
+ * downloaded and cached in the local Maven repository together with its
+ * checksum, which detects later corruption of the cache, but doesn't
+ * authenticate the download. The model is deserialized only once per JVM, see
+ * {@link SharedModelSource}.
+ * </p>
+ *
+ * @since 1.5
+ */
+public final class ModelSourceLocal implements ModelSource {
+
+    /**
+     * Name of the model.
+     */
+    static final String NAME = "en-pos-perceptron";
+
+    /**
+     * Default location of the cached model in the local Maven repository.
+     */
+    static final Path CACHE = Paths.get(
+        System.getProperty(
+            "maven.repo.local",
+            Paths.get(System.getProperty("user.home"), ".m2", "repository").toString()
+        ),
+        "com", "github", "volodya-lombrozo", "jtcop", "ml",
+        String.format("%s.bin", ModelSourceLocal.NAME)
+    );
+
+    /**
+     * The cached model.
+     */
+    private final Path cache;
+
+    /**
+     * Whether the model may be downloaded.
+     */
+    private final boolean download;
+
+    /**
+     * Constructor.
+     * Never touches the network.
+     */
+    public ModelSourceLocal() {
+        this(false);
+    }
+
+    /**
+     * Constructor.
+     * @param download Whether the model may be downloaded if there is no local one
+     */
+    public ModelSourceLocal(final boolean download) {
+        this(ModelSourceLocal.CACHE, download);
+    }
+
+    /**
+     * Constructor.
+     * @param cache The cached model
+     * @param download Whether the model may be downloaded if there is no local one
+     */
+    ModelSourceLocal(final Path cache, final boolean download) {
+        this.cache = cache;
+        this.download = download;
+    }
+
+    @Override
+    public POSModel model() {
+        final Collection<ModelSource> chain = new ArrayList<>(2);
+        chain.add(new ModelSourceVerified(this.cache));
+        if (this.download) {
+            chain.add(new CachedModelSource(new ModelSourceInternet(), this.cache.toString()));
+        }
+        return new SharedModelSource(
+            String.format("%s@%s", ModelSourceLocal.NAME, this.cache),
+            new ModelSourceChain(chain)
+        ).model();
+    }
+}
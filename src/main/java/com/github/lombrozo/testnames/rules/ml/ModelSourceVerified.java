@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules.ml;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import opennlp.tools.postag.POSModel;
+import org.cactoos.Input;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.InputOf;
+import org.cactoos.text.TextOf;
+
+/**
+ * Model source verified by checksum.
+ * <p>
+ * The checksum is kept next to the model, like Maven keeps checksums of
+ * artifacts in the local repository: the model "en-pos-perceptron.bin" has
+ * the checksum in "en-pos-perceptron.bin.sha256". The checksum file contains
+ * the hex SHA-256 digest of the model, optionally followed by the file name,
+ * as {@code sha256sum} prints it. The model is deserialized only if the
+ * digest matches.
+ * </p>
+ *
+ * @since 1.5
+ */
+public final class ModelSourceVerified implements ModelSource {
+
+    /**
+     * Extension of the checksum file.
+     */
+    static final String EXTENSION = ".sha256";
+
+    /**
+     * Description of the model for error messages.
+     */
+    private final String name;
+
+    /**
+     * The model.
+     */
+    private final Input input;
+
+    /**
+     * The expected checksum.
+     */
+    private final Input checksum;
+
+    /**
+     * Constructor.
+     * @param file The model file, the checksum is in the file with ".sha256" extension
+     */
+    public ModelSourceVerified(final Path file) {
+        this(
+            file.toString(),
+            new InputOf(file),
+            new InputOf(Paths.get(String.format("%s%s", file, ModelSourceVerified.EXTENSION)))
+        );
+    }
+
+    /**
+     * Primary constructor.
+     * @param name Description of the model for error messages
+     * @param input The model
+     * @param checksum The expected checksum
+     */
+    ModelSourceVerified(final String name, final Input input, final Input checksum) {
+        this.name = name;
+        this.input = input;
+        this.checksum = checksum;
+    }
+
+    @Override
+    public POSModel model() throws Exception {
+        final byte[] bytes = new BytesOf(this.input).asBytes();
+        final String expected = new TextOf(this.checksum).asString().trim()
+            .split("\\s+")[0]
+            .toLowerCase(Locale.ROOT);
+        final String actual = ModelSourceVerified.digest(bytes);
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException(
+                String.format(
+                    "Checksum of the model %s is %s, but %s was expected",
+                    this.name,
+                    actual,
+                    expected
+                )
+            );
+        }
+        try {
+            return new POSModel(new ByteArrayInputStream(bytes));
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Can't read the model %s", this.name),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Hex SHA-256 digest.
+     * @param bytes Bytes to digest
+     * @return Digest in lower case
+     */
+    static String digest(final byte[] bytes) {
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+            final StringBuilder result = new StringBuilder(hash.length * 2);
+            for (final byte part : hash) {
+                result.append(String.format("%02x", part));
+            }
+            return result.toString();
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 isn't supported", ex);
+        }
+    }
+}
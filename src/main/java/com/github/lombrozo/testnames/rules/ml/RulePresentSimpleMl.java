@@ -34,7 +34,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
-import opennlp.tools.postag.POSTaggerME;
 
 /**
  * Present simple tense rule with using of ML.
@@ -49,9 +48,9 @@ public final class RulePresentSimpleMl implements Rule {
     private static final Pattern CAMEL = Pattern.compile("(?=\\p{Lu})");
 
     /**
-     * The Open NLP tagger.
+     * The Open NLP taggers.
      */
-    private final POSTaggerME model;
+    private final Taggers model;
 
     /**
      * The test to check.
@@ -60,10 +59,11 @@ public final class RulePresentSimpleMl implements Rule {
 
     /**
      * The main constructor.
-     * @param tagger The Open NLP tagger
+     * The taggers may be shared by rules that run in parallel.
+     * @param tagger The Open NLP taggers
      * @param tst The test to check
      */
-    RulePresentSimpleMl(final POSTaggerME tagger, final TestCase tst) {
+    RulePresentSimpleMl(final Taggers tagger, final TestCase tst) {
         this.model = tagger;
         this.test = tst;
     }
@@ -75,18 +75,16 @@ public final class RulePresentSimpleMl implements Rule {
 
     @Override
     public Collection<Complaint> complaints() {
-        final Tag[] parse = Tag.parse(
-            this.model.tag(
-                Stream
-                    .concat(
-                        Stream.of("It"),
-                        Arrays.stream(RulePresentSimpleMl.CAMEL.split(this.test.name()))
-                    ).map(s -> s.toLowerCase(Locale.ROOT))
-                    .toArray(String[]::new)
-            )
+        final String[] tags = this.model.tag(
+            Stream
+                .concat(
+                    Stream.of("It"),
+                    Arrays.stream(RulePresentSimpleMl.CAMEL.split(this.test.name()))
+                ).map(s -> s.toLowerCase(Locale.ROOT))
+                .toArray(String[]::new)
         );
         final Collection<Complaint> res;
-        if (parse[1].isVerb()) {
+        if (Tag.parse(tags[1]).isVerb()) {
             res = Collections.emptyList();
         } else {
             res = Collections.singleton(
@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules.ml;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import opennlp.tools.postag.POSModel;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Model source shared by the whole process.
+ * <p>
+ * {@link POSModel} is immutable and thread-safe, but loading it is expensive.
+ * All shared sources with the same key use the same model, which is loaded
+ * from the origin only once, even if many threads ask for it at the same time.
+ * </p>
+ *
+ * @since 1.5
+ */
+public final class SharedModelSource implements ModelSource {
+
+    /**
+     * Models loaded by the process, by keys.
+     */
+    private static final Map<String, Unchecked<POSModel>> MODELS = new ConcurrentHashMap<>(0);
+
+    /**
+     * Key of the model.
+     */
+    private final String key;
+
+    /**
+     * Where to load the model from, if it isn't loaded yet.
+     */
+    private final ModelSource origin;
+
+    /**
+     * Constructor.
+     * @param key Key of the model, like the name of the model file
+     * @param origin Where to load the model from, if it isn't loaded yet
+     */
+    public SharedModelSource(final String key, final ModelSource origin) {
+        this.key = key;
+        this.origin = origin;
+    }
+
+    @Override
+    public POSModel model() {
+        return SharedModelSource.MODELS.computeIfAbsent(
+            this.key,
+            name -> new Unchecked<>(new Synced<>(new Sticky<>(this.origin::model)))
+        ).value();
+    }
+}
@@ -24,6 +24,11 @@
 package com.github.lombrozo.testnames.rules.ml;
 
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.ToString;
 
 /**
@@ -389,6 +394,18 @@ public enum Tag {
      */
     UNKNOWN("UNKNOWN");
 
+    /**
+     * Tags by raw tag.
+     * If several tags share the raw tag, the first one wins.
+     */
+    private static final Map<String, Tag> RAW = Arrays.stream(Tag.values())
+        .collect(Collectors.toMap(t -> t.tag, Function.identity(), (first, second) -> first));
+
+    /**
+     * Verb tags.
+     */
+    private static final Set<Tag> VERBS = EnumSet.of(Tag.VB, Tag.VBP, Tag.VBZ);
+
     /**
      * Tag.
      */
@@ -407,7 +424,7 @@ public enum Tag {
      * @return True if this tag is a verb
      */
     boolean isVerb() {
-        return Arrays.asList(Tag.VB, Tag.VBP, Tag.VBZ).contains(this);
+        return Tag.VERBS.contains(this);
     }
 
     /**
@@ -416,7 +433,11 @@ public enum Tag {
      * @return Tags
      */
     static Tag[] parse(final String... tags) {
-        return Arrays.stream(tags).map(Tag::parse).toArray(Tag[]::new);
+        final Tag[] result = new Tag[tags.length];
+        for (int idx = 0; idx < tags.length; ++idx) {
+            result[idx] = Tag.parse(tags[idx]);
+        }
+        return result;
     }
 
     /**
@@ -424,9 +445,7 @@ public enum Tag {
      * @param tag Raw tag
      * @return Tag
      */
-    private static Tag parse(final String tag) {
-        return Arrays.stream(Tag.values())
-            .filter(t -> t.tag.equals(tag))
-            .findFirst().orElse(Tag.UNKNOWN);
+    static Tag parse(final String tag) {
+        return Tag.RAW.getOrDefault(tag, Tag.UNKNOWN);
     }
 }
@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules.ml;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Least recently used memo of tagging results.
+ * <p>
+ * Test names in big suites are repetitive, so the same token sequences are
+ * tagged again and again. The memo keeps the tags of the last
+ * {@code capacity} sequences. It's thread-safe:
+ * concurrent misses of the same sequence may tag it twice, but the lock is
+ * never held while tagging.
+ * </p>
+ *
+ * @since 1.5
+ */
+final class TagMemo {
+
+    /**
+     * Tags by token sequence, in access order.
+     */
+    private final Map<List<String>, String[]> tags;
+
+    /**
+     * Constructor.
+     * @param capacity Maximum number of memoised sequences
+     */
+    TagMemo(final int capacity) {
+        this.tags = Collections.synchronizedMap(new TagMemo.Lru(capacity));
+    }
+
+    /**
+     * Tags of the words, memoised.
+     * @param words Words of a sentence
+     * @param tagger Tagger to use on miss
+     * @return Raw tags, one per word
+     */
+    String[] tags(final String[] words, final Function<String[], String[]> tagger) {
+        final List<String> key = Arrays.asList(words.clone());
+        String[] result = this.tags.get(key);
+        if (result == null) {
+            result = tagger.apply(words);
+            this.tags.put(key, result);
+        }
+        return result.clone();
+    }
+
+    /**
+     * Map that evicts the least recently used entry.
+     *
+     * @since 1.5
+     */
+    private static final class Lru extends LinkedHashMap<List<String>, String[]> {
+
+        /**
+         * Serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Maximum number of entries.
+         */
+        private final int capacity;
+
+        /**
+         * Constructor.
+         * @param capacity Maximum number of entries
+         */
+        Lru(final int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<List<String>, String[]> eldest) {
+            return this.size() > this.capacity;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules.ml;
+
+import opennlp.tools.postag.POSTaggerME;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Part-of-speech taggers, one per thread.
+ * <p>
+ * {@link POSTaggerME} isn't thread-safe, so each thread gets its own tagger.
+ * All taggers use the same model, which is loaded only when the first
+ * tagger is created. Results are memoised by token sequence, see
+ * {@link TagMemo}.
+ * </p>
+ *
+ * @since 1.5
+ */
+public final class Taggers {
+
+    /**
+     * Default number of memoised token sequences.
+     */
+    private static final int CAPACITY = 10_000;
+
+    /**
+     * Tagger of the current thread.
+     */
+    private final ThreadLocal<POSTaggerME> local;
+
+    /**
+     * Memoised tags.
+     */
+    private final TagMemo memo;
+
+    /**
+     * Constructor.
+     * @param source Source of the model, usually {@link SharedModelSource}
+     */
+    public Taggers(final ModelSource source) {
+        this(source, Taggers.CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     * @param source Source of the model, usually {@link SharedModelSource}
+     * @param capacity Maximum number of memoised token sequences
+     */
+    public Taggers(final ModelSource source, final int capacity) {
+        this.local = ThreadLocal.withInitial(
+            () -> new POSTaggerME(new Unchecked<>(source::model).value())
+        );
+        this.memo = new TagMemo(capacity);
+    }
+
+    /**
+     * Tag the words by the tagger of the current thread.
+     * @param words Words of a sentence
+     * @return Raw tags, one per word
+     */
+    public String[] tag(final String... words) {
+        return this.memo.tags(words, sentence -> this.local.get().tag(sentence));
+    }
+}
@@ -23,9 +23,30 @@
  */
 package com.github.lombrozo.testnames;
 
+import com.github.lombrozo.testnames.javaparser.JavaParserProject;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  * Test for {@link Cop}.
@@ -79,4 +100,372 @@ final class CopTest {
             )
         );
     }
+
+    @Test
+    void keepsOrderOfComplaintsInParallel() {
+        final Project project = new Project.Fake(
+            IntStream.range(0, 200)
+                .mapToObj(index -> new ProductionClass.Fake(String.format("Unrelated%d", index)))
+                .collect(Collectors.toList()),
+            IntStream.range(0, 200)
+                .mapToObj(
+                    index -> new TestClass.Fake(
+                        String.format("Class%dTest", index), new TestCase[0]
+                    )
+                )
+                .collect(Collectors.toList())
+        );
+        MatcherAssert.assertThat(
+            "Parallel inspection should produce the same complaints in the same order",
+            CopTest.messages(new Cop(project, new Parameters(), 8).inspection()),
+            Matchers.allOf(
+                Matchers.hasSize(200),
+                Matchers.equalTo(CopTest.messages(new Cop(project).inspection()))
+            )
+        );
+    }
+
+    @Test
+    void reusesComplaintsOfPreviousInspection(@TempDir final Path temp) throws IOException {
+        final Path tests = CopTest.tests(temp);
+        final Function<Suspect, Stream<Rule>> law = Cop.experimental();
+        final List<String> first = CopTest.messages(CopTest.incremental(temp, tests, law));
+        MatcherAssert.assertThat(
+            "Complaints of unchanged test class should be the same as during the previous run",
+            CopTest.messages(CopTest.incremental(temp, tests, law)),
+            Matchers.allOf(Matchers.hasSize(1), Matchers.equalTo(first))
+        );
+    }
+
+    @Test
+    void skipsInspectionOfUnchangedTestClass(@TempDir final Path temp) throws IOException {
+        final Path tests = CopTest.tests(temp);
+        final AtomicInteger inspected = new AtomicInteger(0);
+        final Function<Suspect, Stream<Rule>> law = suspect -> {
+            inspected.incrementAndGet();
+            return Cop.experimental().apply(suspect);
+        };
+        CopTest.incremental(temp, tests, law);
+        CopTest.incremental(temp, tests, law);
+        MatcherAssert.assertThat(
+            "Unchanged test class should not be inspected twice",
+            inspected.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Tag("slow")
+    @ParameterizedTest
+    @ValueSource(ints = {100, 1_000})
+    void inspectsLargeProject(final int classes, @TempDir final Path temp) throws IOException {
+        new SyntheticProject(classes).write(temp);
+        final List<MemoryPoolMXBean> pools = ManagementFactory.getMemoryPoolMXBeans();
+        pools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        final long start = System.nanoTime();
+        final Collection<Complaint> complaints = new Cop(
+            new JavaParserProject(
+                temp.resolve("main"),
+                temp.resolve("test"),
+                Collections.emptySet()
+            ),
+            new Parameters(),
+            Runtime.getRuntime().availableProcessors()
+        ).inspection();
+        final double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf(
+            "Inspected %d test classes in %.2f s (%.0f files/s), peak heap %d MB%n",
+            classes,
+            seconds,
+            classes / seconds,
+            pools.stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum() / (1024 * 1024)
+        );
+        MatcherAssert.assertThat(
+            "Large synthetic project should be inspected without complaints",
+            complaints,
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void skipsRuleExcludedForWholeProject() {
+        MatcherAssert.assertThat(
+            "Cop should not apply a rule excluded for the whole project",
+            new Cop(
+                new Project.Fake(
+                    new ProductionClass.Fake("CustomClass"),
+                    new TestClass.Fake()
+                ),
+                new Parameters(),
+                1,
+                new InspectionCache.Disabled(),
+                Collections.singleton("RuleEveryTestHasProductionClass")
+            ).inspection(),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void doesNotReadBodiesIfBodyRulesExcluded() {
+        MatcherAssert.assertThat(
+            "Cop should not read test case bodies if all body rules are excluded",
+            new Cop(
+                new Project.Fake(
+                    new ProductionClass.Fake(),
+                    new TestClass.Fake(new Bodiless())
+                ),
+                new Parameters(),
+                1,
+                new InspectionCache.Disabled(),
+                Arrays.asList(
+                    "RuleAssertionMessage", "LineHitterRule", "RuleTestCaseContainsMockery"
+                )
+            ).inspection(),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void checksNamesWithoutParsing(@TempDir final Path temp) throws IOException {
+        final Path tests = Files.createDirectories(temp.resolve("test"));
+        Files.write(
+            tests.resolve("BrokenTest.java"),
+            "class BrokenTest { @Test void checks() {".getBytes(StandardCharsets.UTF_8)
+        );
+        final Law law = Cop.regular(
+            new Parameters(),
+            Arrays.asList(
+                "RuleEveryTestHasProductionClass",
+                "RuleProhibitStaticFields",
+                "RuleInheritanceInTests",
+                "RuleCorrectTestCase"
+            )
+        );
+        MatcherAssert.assertThat(
+            "Cop should check names of test classes without parsing them",
+            new Cop(
+                new JavaParserProject(
+                    temp.resolve("main"),
+                    tests,
+                    Collections.emptySet(),
+                    "21",
+                    new InspectionCache.Disabled(),
+                    Collections.emptyList(),
+                    false,
+                    law.facts()
+                ),
+                law
+            ).inspection(),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void doesNotComplainAboutNamesOfClassesThatOnlyLookLikeTests(
+        @TempDir final Path temp
+    ) throws IOException {
+        final Path tests = Files.createDirectories(temp.resolve("test"));
+        Files.write(
+            tests.resolve("Helper.java"),
+            String.join(
+                "\n",
+                "// Helps methods annotated with @Test, but has no tests itself",
+                "class Helper {}"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        Files.write(
+            tests.resolve("OnlineCondition.java"),
+            String.join(
+                "\n",
+                "import org.junit.jupiter.api.Test;",
+                "import org.junit.jupiter.api.extension.ExecutionCondition;",
+                "abstract class OnlineCondition implements ExecutionCondition {",
+                "  @Test",
+                "  void checksConnection() {",
+                "  }",
+                "}"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        final Law law = Cop.regular(
+            new Parameters(),
+            Arrays.asList(
+                "RuleEveryTestHasProductionClass",
+                "RuleProhibitStaticFields",
+                "RuleInheritanceInTests",
+                "RuleCorrectTestCase"
+            )
+        );
+        MatcherAssert.assertThat(
+            "Cop should not complain about names of classes that aren't tests",
+            new Cop(
+                new ProjectWithoutJUnitExtensions(
+                    new JavaParserProject(
+                        temp.resolve("main"),
+                        tests,
+                        Collections.emptySet(),
+                        "21",
+                        new InspectionCache.Disabled(),
+                        Collections.emptyList(),
+                        false,
+                        law.facts()
+                    ),
+                    new InspectionCache.Disabled(),
+                    law.facts()
+                ),
+                law
+            ).inspection(),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void checksBodiesWithoutResolvingTypes(@TempDir final Path temp) throws IOException {
+        final Path tests = Files.createDirectories(temp.resolve("test"));
+        Files.write(
+            tests.resolve("SomeTest.java"),
+            String.join(
+                "\n",
+                "import org.junit.jupiter.api.Test;",
+                "class SomeTest {",
+                "  @Test",
+                "  void checksSomething() {",
+                "    MatcherAssert.assertThat(\"Equals\", 1 == 1);",
+                "  }",
+                "}"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        final Law law = Cop.regular(
+            new Parameters(),
+            Arrays.asList("RuleEveryTestHasProductionClass", "RuleAssertionMessage")
+        );
+        MatcherAssert.assertThat(
+            "Cop should check bodies of test cases without symbol resolution",
+            new Cop(
+                new JavaParserProject(
+                    temp.resolve("main"),
+                    tests,
+                    Collections.emptySet(),
+                    "21",
+                    new InspectionCache.Disabled(),
+                    Collections.emptyList(),
+                    false,
+                    law.facts()
+                ),
+                law
+            ).inspection(),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void resolvesTypesInParallel(@TempDir final Path temp) throws IOException {
+        new SyntheticProject(200, 5, SyntheticProject.Style.RESOLVED, 0, true).write(temp);
+        MatcherAssert.assertThat(
+            "Cop should resolve types of assertions from several threads at once",
+            new Cop(
+                new JavaParserProject(
+                    temp.resolve("main"),
+                    temp.resolve("test"),
+                    Collections.emptySet()
+                ),
+                new Parameters(),
+                8
+            ).inspection(),
+            Matchers.empty()
+        );
+    }
+
+    /**
+     * Create directory with a single test class.
+     * @param temp Temporary directory.
+     * @return Directory with tests.
+     * @throws IOException If the test class can't be written.
+     */
+    private static Path tests(final Path temp) throws IOException {
+        final Path tests = Files.createDirectories(temp.resolve("test"));
+        Files.write(
+            tests.resolve("SomeTest.java"),
+            String.join(
+                "\n",
+                "import org.junit.jupiter.api.Test;",
+                "class SomeTest {",
+                "  @Test",
+                "  void checksSomething() {}",
+                "  void helper() {}",
+                "}"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        return tests;
+    }
+
+    /**
+     * Inspect project incrementally and save the results.
+     * @param temp Temporary directory.
+     * @param tests Directory with tests.
+     * @param law The law to check the project.
+     * @return Complaints.
+     */
+    private static Collection<Complaint> incremental(
+        final Path temp,
+        final Path tests,
+        final Function<Suspect, Stream<Rule>> law
+    ) {
+        final InspectionCache cache = new InspectionCacheFileSystem(
+            temp.resolve("cache.txt"),
+            "fingerprint"
+        );
+        final Collection<Complaint> result = new Cop(
+            new JavaParserProject(
+                temp.resolve("main"),
+                tests,
+                Collections.emptySet(),
+                "21",
+                cache
+            ),
+            law,
+            1,
+            cache
+        ).inspection();
+        cache.save();
+        return result;
+    }
+
+    /**
+     * Messages of complaints.
+     * @param complaints Complaints.
+     * @return Messages in the same order.
+     */
+    private static List<String> messages(final Collection<Complaint> complaints) {
+        return complaints.stream().map(Complaint::message).collect(Collectors.toList());
+    }
+
+    /**
+     * Test case that fails if its body is read.
+     *
+     * @since 1.5
+     */
+    private static final class Bodiless implements TestCase {
+
+        @Override
+        public String name() {
+            return "checksName";
+        }
+
+        @Override
+        public Collection<String> suppressed() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Collection<Assertion> assertions() {
+            throw new IllegalStateException("Assertions must not be read");
+        }
+
+        @Override
+        public Collection<String> statements() {
+            throw new IllegalStateException("Statements must not be read");
+        }
+    }
 }
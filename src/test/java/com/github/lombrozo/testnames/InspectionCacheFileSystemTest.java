@@ -0,0 +1,202 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test for {@link InspectionCacheFileSystem}.
+ *
+ * @since 1.5
+ */
+final class InspectionCacheFileSystemTest {
+
+    /**
+     * The fingerprint of inspection.
+     */
+    private static final String FINGERPRINT = "1.5;21;2;false;[]";
+
+    @Test
+    void reusesComplaintsOfUnchangedTestClass(@TempDir final Path temp) throws IOException {
+        final TestClass test = InspectionCacheFileSystemTest.test(temp, "class CopTest {}");
+        final ProductionIndex index = new ProductionIndex(new Project.Fake());
+        final InspectionCache previous = InspectionCacheFileSystemTest.cache(temp);
+        previous.remember(
+            test,
+            index,
+            Collections.singletonList(new Complaint.Text("First line\n\tsecond line"))
+        );
+        previous.save();
+        MatcherAssert.assertThat(
+            "Cache should return complaints saved during the previous run",
+            InspectionCacheFileSystemTest.cache(temp).complaints(test, index)
+                .map(
+                    all -> all.stream().map(Complaint::message).collect(Collectors.toList())
+                )
+                .orElse(Collections.emptyList()),
+            Matchers.contains("First line\n\tsecond line")
+        );
+    }
+
+    @Test
+    void forgetsComplaintsOfChangedTestClass(@TempDir final Path temp) throws IOException {
+        final TestClass test = InspectionCacheFileSystemTest.test(temp, "class CopTest {}");
+        final ProductionIndex index = new ProductionIndex(new Project.Fake());
+        final InspectionCache previous = InspectionCacheFileSystemTest.cache(temp);
+        previous.remember(test, index, Collections.emptyList());
+        previous.save();
+        Files.write(test.path(), "class CopTest { }".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "Cache should not return complaints if the file has changed",
+            InspectionCacheFileSystemTest.cache(temp).complaints(test, index).isPresent(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void forgetsComplaintsIfProductionClassAppeared(
+        @TempDir final Path temp
+    ) throws IOException {
+        final TestClass test = InspectionCacheFileSystemTest.test(temp, "class CopTest {}");
+        final InspectionCache previous = InspectionCacheFileSystemTest.cache(temp);
+        previous.remember(test, new ProductionIndex(new Project.Fake()), Collections.emptyList());
+        previous.save();
+        MatcherAssert.assertThat(
+            "Cache should not return complaints if the production class has appeared",
+            InspectionCacheFileSystemTest.cache(temp).complaints(
+                test,
+                new ProductionIndex(
+                    new Project.Fake(new ProductionClass.Fake(temp.resolve("Cop.java").toString()))
+                )
+            ).isPresent(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void ignoresResultsOfAnotherConfiguration(@TempDir final Path temp) throws IOException {
+        final Path file = Files.write(
+            temp.resolve("Production.java"),
+            "class Production {}".getBytes(StandardCharsets.UTF_8)
+        );
+        final InspectionCache previous = InspectionCacheFileSystemTest.cache(temp);
+        previous.classify(file, false);
+        previous.save();
+        MatcherAssert.assertThat(
+            "Cache should ignore results saved with another configuration",
+            new InspectionCacheFileSystem(temp.resolve("cache.txt"), "another").unchanged(file),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void remembersClassificationOfUnchangedFile(@TempDir final Path temp) throws IOException {
+        final Path file = Files.write(
+            temp.resolve("Production.java"),
+            "class Production {}".getBytes(StandardCharsets.UTF_8)
+        );
+        final InspectionCache previous = InspectionCacheFileSystemTest.cache(temp);
+        previous.classify(file, false);
+        previous.save();
+        final InspectionCache cache = InspectionCacheFileSystemTest.cache(temp);
+        MatcherAssert.assertThat(
+            "Cache should remember that unchanged file doesn't contain tests",
+            cache.unchanged(file) && !cache.test(file),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void keepsTestAndExtensionClassificationsApart(@TempDir final Path temp) throws IOException {
+        final Path file = Files.write(
+            temp.resolve("Extension.java"),
+            "class Extension implements BeforeEachCallback {}".getBytes(StandardCharsets.UTF_8)
+        );
+        final InspectionCache previous = InspectionCacheFileSystemTest.cache(temp);
+        previous.classify(file, true);
+        previous.classifyExtension(file, true);
+        previous.save();
+        final InspectionCache cache = InspectionCacheFileSystemTest.cache(temp);
+        MatcherAssert.assertThat(
+            "Cache should remember both that the file is a test and that it's a JUnit extension",
+            cache.unchanged(file) && cache.test(file) && cache.extension(file),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void keepsExtensionClassificationOfInspectedTestClass(
+        @TempDir final Path temp
+    ) throws IOException {
+        final TestClass test = InspectionCacheFileSystemTest.test(
+            temp,
+            "class CopTest implements BeforeEachCallback {}"
+        );
+        final InspectionCache previous = InspectionCacheFileSystemTest.cache(temp);
+        previous.classifyExtension(test.path(), true);
+        previous.remember(test, new ProductionIndex(new Project.Fake()), Collections.emptyList());
+        previous.save();
+        MatcherAssert.assertThat(
+            "Cache should not forget that the inspected test class is a JUnit extension",
+            InspectionCacheFileSystemTest.cache(temp).extension(test.path()),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Create cache in the directory.
+     * @param temp The directory.
+     * @return Cache.
+     */
+    private static InspectionCache cache(final Path temp) {
+        return new InspectionCacheFileSystem(
+            temp.resolve("cache.txt"),
+            InspectionCacheFileSystemTest.FINGERPRINT
+        );
+    }
+
+    /**
+     * Create test class file in the directory.
+     * @param temp The directory.
+     * @param content The content of the file.
+     * @return Test class.
+     * @throws IOException If the file can't be written.
+     */
+    private static TestClass test(final Path temp, final String content) throws IOException {
+        final Path file = Files.write(
+            temp.resolve("CopTest.java"),
+            content.getBytes(StandardCharsets.UTF_8)
+        );
+        return new TestClass.Fake(file.toString(), new TestCase[0]);
+    }
+}
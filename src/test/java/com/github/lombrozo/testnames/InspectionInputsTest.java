@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test for {@link InspectionInputs}.
+ *
+ * @since 1.5
+ */
+final class InspectionInputsTest {
+
+    @Test
+    void keepsDigestOfUnchangedSources(@TempDir final Path temp) throws IOException {
+        InspectionInputsTest.source(temp, "Cop.java", "class Cop {}");
+        MatcherAssert.assertThat(
+            "Digest of the same sources should be the same",
+            InspectionInputsTest.digest(temp),
+            Matchers.equalTo(InspectionInputsTest.digest(temp))
+        );
+    }
+
+    @Test
+    void changesDigestIfAnotherSourceChanged(@TempDir final Path temp) throws IOException {
+        InspectionInputsTest.source(temp, "Cop.java", "class Cop {}");
+        final String before = InspectionInputsTest.digest(temp);
+        InspectionInputsTest.source(temp, "Cop.java", "class Cop { int size; }");
+        MatcherAssert.assertThat(
+            "Digest should change if any source has changed",
+            InspectionInputsTest.digest(temp),
+            Matchers.not(Matchers.equalTo(before))
+        );
+    }
+
+    @Test
+    void changesDigestIfSourceAppeared(@TempDir final Path temp) throws IOException {
+        InspectionInputsTest.source(temp, "Cop.java", "class Cop {}");
+        final String before = InspectionInputsTest.digest(temp);
+        InspectionInputsTest.source(temp, "Law.java", "class Law {}");
+        MatcherAssert.assertThat(
+            "Digest should change if a new source has appeared",
+            InspectionInputsTest.digest(temp),
+            Matchers.not(Matchers.equalTo(before))
+        );
+    }
+
+    @Test
+    void changesDigestIfJarChanged(@TempDir final Path temp) throws IOException {
+        final Path jar = InspectionInputsTest.source(temp, "hamcrest.jar", "first");
+        final String before = new InspectionInputs(
+            Collections.emptyList(),
+            Collections.singletonList(jar)
+        ).digest();
+        InspectionInputsTest.source(temp, "hamcrest.jar", "second version");
+        MatcherAssert.assertThat(
+            "Digest should change if a jar of the classpath has changed",
+            new InspectionInputs(
+                Collections.emptyList(),
+                Collections.singletonList(jar)
+            ).digest(),
+            Matchers.not(Matchers.equalTo(before))
+        );
+    }
+
+    @Test
+    void ignoresAbsentDirectories(@TempDir final Path temp) {
+        MatcherAssert.assertThat(
+            "Digest should be computed even if source directories don't exist",
+            InspectionInputsTest.digest(temp.resolve("absent")),
+            Matchers.not(Matchers.emptyString())
+        );
+    }
+
+    /**
+     * Digest of sources in the directory.
+     * @param root The directory.
+     * @return Digest.
+     */
+    private static String digest(final Path root) {
+        return new InspectionInputs(
+            Collections.singletonList(root),
+            Collections.emptyList()
+        ).digest();
+    }
+
+    /**
+     * Write the file to the directory.
+     * @param root The directory.
+     * @param name The name of the file.
+     * @param content The content of the file.
+     * @return Path to the file.
+     * @throws IOException If the file can't be written.
+     */
+    private static Path source(
+        final Path root,
+        final String name,
+        final String content
+    ) throws IOException {
+        return Files.write(root.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import com.github.lombrozo.testnames.rules.RuleCorrectTestName;
+import com.github.lombrozo.testnames.rules.RuleInheritanceInTests;
+import com.github.lombrozo.testnames.rules.RuleProhibitStaticFields;
+import java.util.Arrays;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Law}.
+ *
+ * @since 1.5
+ */
+final class LawTest {
+
+    @Test
+    void needsTypesForAllRules() {
+        MatcherAssert.assertThat(
+            "We expect that the regular law needs resolved types",
+            Cop.regular(new Parameters(), Collections.emptySet()).facts(),
+            Matchers.is(Facts.TYPES)
+        );
+    }
+
+    @Test
+    void needsOnlyNamesIfOtherRulesAreExcluded() {
+        MatcherAssert.assertThat(
+            "We expect that the law of test class names needs only names",
+            Cop.regular(
+                new Parameters(),
+                Arrays.asList(
+                    "RuleEveryTestHasProductionClass",
+                    "RuleProhibitStaticFields",
+                    "RuleInheritanceInTests",
+                    "RuleCorrectTestCase"
+                )
+            ).facts(),
+            Matchers.is(Facts.NAMES)
+        );
+    }
+
+    @Test
+    void needsOnlyStructureWithoutBodyRules() {
+        MatcherAssert.assertThat(
+            "We expect that the law without rules for bodies needs only structure",
+            Cop.regular(
+                new Parameters(),
+                Arrays.asList(
+                    "RuleAssertionMessage", "LineHitterRule", "RuleTestCaseContainsMockery"
+                )
+            ).facts(),
+            Matchers.is(Facts.STRUCTURE)
+        );
+    }
+
+    @Test
+    void needsTheMostExpensiveTierOfItsRules() {
+        MatcherAssert.assertThat(
+            "We expect that the combined law needs the most expensive tier of its rules",
+            new Law(
+                Arrays.asList(
+                    new Law(suspect -> new RuleCorrectTestName(suspect.test()), Facts.NAMES),
+                    new Law(suspect -> new RuleProhibitStaticFields(suspect.test()), Facts.BODIES),
+                    new Law(suspect -> new RuleInheritanceInTests(suspect.test()), Facts.STRUCTURE)
+                )
+            ).facts(),
+            Matchers.is(Facts.BODIES)
+        );
+    }
+
+    @Test
+    void needsNothingWithoutRules() {
+        MatcherAssert.assertThat(
+            "We expect that the empty law needs only names",
+            new Law(Collections.emptyList()).facts(),
+            Matchers.is(Facts.NAMES)
+        );
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link ProductionIndex}.
+ *
+ * @since 1.5
+ */
+final class ProductionIndexTest {
+
+    @Test
+    void containsClassRegardlessOfExtension() {
+        MatcherAssert.assertThat(
+            "Index should contain production class regardless of the file extension",
+            new ProductionIndex(
+                new Project.Fake(new ProductionClass.Fake("Cop.java"))
+            ).contains("Cop.class"),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void ignoresSpecialSymbols() {
+        MatcherAssert.assertThat(
+            "Index should ignore '_' and '$' symbols in names",
+            new ProductionIndex(
+                new Project.Fake(new ProductionClass.Fake("Some_Class$Inner"))
+            ).contains("SomeClassInner"),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void skipsPackageInfo() {
+        MatcherAssert.assertThat(
+            "Index should not contain package-info files",
+            new ProductionIndex(
+                new Project.Fake(
+                    new ProductionClass.Fake("package-info.java"),
+                    new ProductionClass.Fake("Cop.java")
+                )
+            ).contains("package-info.java"),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void coversTestOfIndexedClass() {
+        MatcherAssert.assertThat(
+            "Index should cover the test class of an indexed production class",
+            new ProductionIndex(
+                Arrays.asList(new ProductionClass.Fake("Cop.java"))
+            ).covers("CopTest.java"),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void readsProductionClassesOnlyOncePerInspection() {
+        final AtomicInteger reads = new AtomicInteger(0);
+        final Project origin = new Project.Fake(
+            Arrays.asList(new ProductionClass.Fake("First"), new ProductionClass.Fake("Second")),
+            Arrays.asList(
+                new TestClass.Fake("FirstTest"),
+                new TestClass.Fake("SecondTest"),
+                new TestClass.Fake("ThirdTest")
+            )
+        );
+        new Cop(
+            new Project() {
+                @Override
+                public Collection<ProductionClass> productionClasses() {
+                    reads.incrementAndGet();
+                    return origin.productionClasses();
+                }
+
+                @Override
+                public Collection<TestClass> testClasses() {
+                    return origin.testClasses();
+                }
+            }
+        ).inspection();
+        MatcherAssert.assertThat(
+            "Cop should read production classes only once per inspection",
+            reads.get(),
+            Matchers.equalTo(1)
+        );
+    }
+}
@@ -46,6 +46,18 @@ final class ProjectTest {
         );
     }
 
+    @Test
+    void streamsTestsOfCombinedProject() {
+        MatcherAssert.assertThat(
+            "Should stream test classes of all projects",
+            new Project.Combined(
+                new Project.Fake(new TestClass.Fake()),
+                new Project.Fake(new TestClass.Fake())
+            ).tests().count(),
+            Matchers.equalTo(2L)
+        );
+    }
+
     @Test
     void createsWithoutTests() {
         final Project.WithoutTests without = new Project.WithoutTests(
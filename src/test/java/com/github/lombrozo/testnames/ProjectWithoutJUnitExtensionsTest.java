@@ -74,6 +74,19 @@ final class ProjectWithoutJUnitExtensionsTest {
         );
     }
 
+    @Test
+    void keepsClassesUnparsedAtTierOfNames() {
+        MatcherAssert.assertThat(
+            "We expect that classes aren't checked for JUnit extensions at the tier of names",
+            new ProjectWithoutJUnitExtensions(
+                new Project.Fake(new TestClass.Fake(true)),
+                new InspectionCache.Disabled(),
+                Facts.NAMES
+            ).testClasses(),
+            Matchers.hasSize(1)
+        );
+    }
+
     @Test
     void skipsNotJUnitExtensions() {
         final TestClass[] expected = {
@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Suppression}.
+ *
+ * @since 1.5
+ */
+final class SuppressionTest {
+
+    @Test
+    void internsSameNameToSameId() {
+        MatcherAssert.assertThat(
+            "We expect that the same rule name always has the same id",
+            Suppression.id(String.join("", "Rule", "Interned")),
+            Matchers.equalTo(Suppression.id("RuleInterned"))
+        );
+    }
+
+    @Test
+    void findsSuppressedRule() {
+        MatcherAssert.assertThat(
+            "We expect that the suppressed rule is found by its id",
+            new Suppression(Arrays.asList("RuleFirst", "RuleSecond"))
+                .has(Suppression.id("RuleSecond")),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void doesNotFindOtherRule() {
+        MatcherAssert.assertThat(
+            "We expect that a rule which isn't suppressed isn't found",
+            new Suppression(Collections.singleton("RuleSuppressedOnly"))
+                .has(Suppression.id("RuleNotSuppressed")),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void mergesSuppressedRules() {
+        MatcherAssert.assertThat(
+            "We expect that merged suppression contains rules of both",
+            new Suppression(Collections.singleton("RuleOfClass"))
+                .with(new Suppression(Collections.singleton("RuleOfMethod")))
+                .hasAny(Arrays.asList("RuleOfClass", "Unknown")),
+            Matchers.is(true)
+        );
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Synthetic project generator.
+ * Writes production and test classes to the file system, so inspection
+ * of really large projects can be reproduced without real sources.
+ * All generated tests are correct, so the inspection shouldn't find any complaints.
+ * The class is public because the "large-project" integration test
+ * generates its sources with it too.
+ *
+ * @since 1.5
+ */
+@SuppressWarnings("PMD.TestClassWithoutTestCases")
+public final class SyntheticProject {
+
+    /**
+     * Max number of classes in a single package.
+     */
+    private static final int PACKAGE = 500;
+
+    /**
+     * Number of test classes, each has its production class.
+     */
+    private final int classes;
+
+    /**
+     * Number of test methods in each test class.
+     */
+    private final int methods;
+
+    /**
+     * Assertion style.
+     */
+    private final Style style;
+
+    /**
+     * Number of Mockito mocks in each test method.
+     */
+    private final int mocks;
+
+    /**
+     * Whether test classes suppress some rules.
+     */
+    private final boolean suppressed;
+
+    /**
+     * Ctor.
+     * @param classes Number of test classes.
+     */
+    public SyntheticProject(final int classes) {
+        this(classes, 5, Style.MIXED, 1, true);
+    }
+
+    /**
+     * Ctor.
+     * @param classes Number of test classes.
+     * @param methods Number of test methods in each test class.
+     * @param style Assertion style.
+     * @param mocks Number of Mockito mocks in each test method.
+     * @param suppressed Whether test classes suppress some rules.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    SyntheticProject(
+        final int classes,
+        final int methods,
+        final Style style,
+        final int mocks,
+        final boolean suppressed
+    ) {
+        this.classes = classes;
+        this.methods = methods;
+        this.style = style;
+        this.mocks = mocks;
+        this.suppressed = suppressed;
+    }
+
+    /**
+     * Write the project.
+     * Production classes are written to the "main" directory,
+     * test classes are written to the "test" directory.
+     * @param root The directory to write the project to.
+     * @return The same directory.
+     * @throws IOException If files can't be written.
+     */
+    public Path write(final Path root) throws IOException {
+        for (int idx = 0; idx < this.classes; ++idx) {
+            final String pckg = String.format("synthetic.p%d", idx / SyntheticProject.PACKAGE);
+            final String name = String.format("Generated%d", idx);
+            SyntheticProject.save(
+                root.resolve("main"),
+                pckg,
+                name,
+                String.join(
+                    System.lineSeparator(),
+                    String.format("package %s;", pckg),
+                    "",
+                    String.format("final class %s {", name),
+                    "    boolean valid() {",
+                    "        return true;",
+                    "    }",
+                    "}",
+                    ""
+                )
+            );
+            SyntheticProject.save(
+                root.resolve("test"),
+                pckg,
+                String.format("%sTest", name),
+                this.test(pckg, name)
+            );
+        }
+        return root;
+    }
+
+    /**
+     * Source code of the test class.
+     * @param pckg Package.
+     * @param name Name of the production class.
+     * @return Source code.
+     */
+    private String test(final String pckg, final String name) {
+        final List<String> lines = new ArrayList<>(0);
+        lines.add(String.format("package %s;", pckg));
+        lines.add("");
+        lines.add("import org.hamcrest.MatcherAssert;");
+        lines.add("import org.hamcrest.Matchers;");
+        lines.add("import org.junit.jupiter.api.Assertions;");
+        lines.add("import org.junit.jupiter.api.Test;");
+        lines.add("import org.mockito.Mockito;");
+        lines.add("");
+        if (this.suppressed) {
+            lines.add("@SuppressWarnings(\"JTCOP.RuleOnlyTestMethods\")");
+        }
+        lines.add(String.format("final class %sTest {", name));
+        for (int method = 0; method < this.methods; ++method) {
+            lines.add("");
+            lines.add("    @Test");
+            lines.add(
+                String.format(
+                    "    void checks%s() {",
+                    SyntheticProject.word(method)
+                )
+            );
+            for (int mock = 0; mock < this.mocks; ++mock) {
+                lines.add(
+                    String.format(
+                        "        final Runnable task%d = Mockito.mock(Runnable.class);",
+                        mock
+                    )
+                );
+            }
+            lines.add(String.format("        %s", this.style.assertion(method, name)));
+            lines.add("    }");
+        }
+        lines.add("}");
+        return String.join(System.lineSeparator(), lines);
+    }
+
+    /**
+     * Unique word made of letters only.
+     * @param number Number of the word.
+     * @return Capitalized word.
+     */
+    private static String word(final int number) {
+        final StringBuilder word = new StringBuilder(0);
+        int rest = number;
+        do {
+            word.append((char) ('a' + rest % 26));
+            rest /= 26;
+        } while (rest > 0);
+        return String.format(
+            "Value%s",
+            word.substring(0, 1).toUpperCase(Locale.ROOT) + word.substring(1)
+        );
+    }
+
+    /**
+     * Save the class to the file.
+     * @param root Source root.
+     * @param pckg Package of the class.
+     * @param name Name of the class.
+     * @param content Source code.
+     * @throws IOException If the file can't be written.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private static void save(
+        final Path root,
+        final String pckg,
+        final String name,
+        final String content
+    ) throws IOException {
+        final Path dir = Files.createDirectories(root.resolve(pckg.replace('.', '/')));
+        Files.write(
+            dir.resolve(String.format("%s.java", name)),
+            content.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * Assertion style of generated tests.
+     * @since 1.5
+     */
+    enum Style {
+
+        /**
+         * JUnit assertions.
+         */
+        JUNIT,
+
+        /**
+         * Hamcrest assertions.
+         */
+        HAMCREST,
+
+        /**
+         * JUnit and Hamcrest assertions one by one.
+         */
+        MIXED,
+
+        /**
+         * Hamcrest assertions whose message is recognised by the resolved
+         * type of the checked expression, declared in the production class.
+         */
+        RESOLVED;
+
+        /**
+         * Assertion statement.
+         * @param number Number of the test method.
+         * @param name Name of the production class.
+         * @return Assertion statement.
+         */
+        String assertion(final int number, final String name) {
+            final String result;
+            if (this == Style.RESOLVED) {
+                result = String.format(
+                    "MatcherAssert.assertThat(\"Value should be valid\", new %s().valid());",
+                    name
+                );
+            } else if (this == Style.JUNIT || this == Style.MIXED && number % 2 == 0) {
+                result = String.format(
+                    "Assertions.assertEquals(%d, %d, \"Values should be equal\");",
+                    number,
+                    number
+                );
+            } else {
+                result = String.format(
+                    "MatcherAssert.assertThat(\"Values should be equal\", %d, Matchers.is(%d));",
+                    number,
+                    number
+                );
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import com.github.lombrozo.testnames.javaparser.JavaParserProject;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Test for {@link SyntheticProject}.
+ *
+ * @since 1.5
+ */
+final class SyntheticProjectTest {
+
+    @Test
+    void writesAllClasses(@TempDir final Path temp) throws IOException {
+        new SyntheticProject(1_200).write(temp);
+        try (Stream<Path> files = Files.walk(temp)) {
+            MatcherAssert.assertThat(
+                "Generator should write production and test class for each test",
+                files.filter(Files::isRegularFile).count(),
+                Matchers.equalTo(2_400L)
+            );
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(SyntheticProject.Style.class)
+    void generatesCorrectTests(
+        final SyntheticProject.Style style,
+        @TempDir final Path temp
+    ) throws IOException {
+        new SyntheticProject(20, 30, style, 2, false).write(temp);
+        MatcherAssert.assertThat(
+            "Generated tests should not have any complaints",
+            new Cop(
+                new JavaParserProject(
+                    temp.resolve("main"),
+                    temp.resolve("test"),
+                    Collections.emptySet()
+                )
+            ).inspection(),
+            Matchers.empty()
+        );
+    }
+}
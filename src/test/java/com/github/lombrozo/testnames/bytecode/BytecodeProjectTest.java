@@ -29,6 +29,7 @@ import com.github.lombrozo.testnames.TestClass;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
+import javassist.ClassPool;
 import org.cactoos.bytes.BytesOf;
 import org.cactoos.io.ResourceOf;
 import org.hamcrest.MatcherAssert;
@@ -66,6 +67,54 @@ final class BytecodeProjectTest {
         );
     }
 
+    @Test
+    void countsInheritedTestsWithClassPool(@TempDir final Path temp) throws Exception {
+        final ResourceOf resource = new ResourceOf("generated/RuleTest.class");
+        Files.write(temp.resolve("RuleTest.class"), new BytesOf(resource).asBytes());
+        MatcherAssert.assertThat(
+            "We expect to parse test classes by Javassist when class pool is given",
+            new BytecodeProject(temp, temp, new ClassPool(true))
+                .testClasses()
+                .iterator()
+                .next()
+                .characteristics()
+                .numberOfTests(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void countsTestsWithScannerWhenAsked(@TempDir final Path temp) throws Exception {
+        final ResourceOf resource = new ResourceOf("generated/RuleTest.class");
+        Files.write(temp.resolve("RuleTest.class"), new BytesOf(resource).asBytes());
+        MatcherAssert.assertThat(
+            "We expect to scan test classes without Javassist when the scanner is asked for",
+            new BytecodeProject(temp, temp, true)
+                .testClasses()
+                .iterator()
+                .next()
+                .characteristics()
+                .numberOfTests(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void releasesProjectClassesAfterInspection(@TempDir final Path temp) throws Exception {
+        final ResourceOf resource = new ResourceOf("generated/RuleTest.class");
+        Files.write(temp.resolve("RuleTest.class"), new BytesOf(resource).asBytes());
+        final VisiblePool parent = new VisiblePool();
+        final Project project = new BytecodeProject(temp, temp, parent);
+        for (int idx = 0; idx < 100; ++idx) {
+            project.testClasses().iterator().next().characteristics().numberOfTests();
+        }
+        MatcherAssert.assertThat(
+            "We expect that inspected classes don't stay in the given class pool",
+            parent.keeps("com.github.lombrozo.testnames.rules.RuleTest"),
+            Matchers.is(false)
+        );
+    }
+
     @Test
     void parsesGeneratedProductionClasses(@TempDir final Path temp) throws Exception {
         final ResourceOf resource = new ResourceOf("generated/RuleName.class");
@@ -115,4 +164,28 @@ final class BytecodeProjectTest {
             Matchers.empty()
         );
     }
+
+    /**
+     * Class pool that shows which classes it keeps.
+     *
+     * @since 1.5
+     */
+    private static final class VisiblePool extends ClassPool {
+
+        /**
+         * Constructor.
+         */
+        VisiblePool() {
+            super(true);
+        }
+
+        /**
+         * Whether the pool keeps the class.
+         * @param name Fully qualified name of the class.
+         * @return True if the class is cached in the pool.
+         */
+        boolean keeps(final String name) {
+            return this.getCached(name) != null;
+        }
+    }
 }
@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.bytecode;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import javassist.ClassPool;
+import javassist.bytecode.ClassFile;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.ResourceOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link ClassFileScanner}.
+ *
+ * @since 1.5
+ */
+final class ClassFileScannerTest {
+
+    @Test
+    void scansFullyQualifiedName(@TempDir final Path temp) throws Exception {
+        MatcherAssert.assertThat(
+            "We expect to read the fully qualified name from the constant pool",
+            new ClassFileScanner(ClassFileScannerTest.save(temp, "RuleName")).scan().name(),
+            Matchers.equalTo("com.github.lombrozo.testnames.RuleName")
+        );
+    }
+
+    @Test
+    void scansInterfaces(@TempDir final Path temp) throws Exception {
+        MatcherAssert.assertThat(
+            "We expect to read implemented interfaces of the class",
+            new ClassFileScanner(ClassFileScannerTest.save(temp, "OnlineCondition"))
+                .scan()
+                .interfaces(),
+            Matchers.contains("org.junit.jupiter.api.extension.ExecutionCondition")
+        );
+    }
+
+    @Test
+    void countsMethodsWithoutConstructors(@TempDir final Path temp) throws Exception {
+        MatcherAssert.assertThat(
+            "We expect that RuleName.class has two methods besides the constructor",
+            new ClassFileScanner(ClassFileScannerTest.save(temp, "RuleName")).scan().methods(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void countsParameterizedTests(@TempDir final Path temp) throws Exception {
+        MatcherAssert.assertThat(
+            "We expect that RuleTest.class has exactly one parameterized test",
+            new ClassFileScanner(ClassFileScannerTest.save(temp, "RuleTest")).scan().tests(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void scansTheSameTestsAsJavassist() throws Exception {
+        final Path self = ClassFileScannerTest.self();
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(self))) {
+            MatcherAssert.assertThat(
+                "We expect the scanner to count the same tests as Javassist does",
+                new ClassFileScanner(self).scan().tests(),
+                Matchers.equalTo(
+                    new CtClassDescription(
+                        new ClassPool(true).makeClass(new ClassFile(input))
+                    ).tests()
+                )
+            );
+        }
+    }
+
+    @Test
+    void failsOnNonClassFile(@TempDir final Path temp) throws IOException {
+        final Path file = temp.resolve("Broken.class");
+        Files.write(file, "not a class file".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new ClassFileScanner(file).scan(),
+            "We expect an exception for a broken class file"
+        );
+    }
+
+    /**
+     * Save generated class binary for test purposes.
+     * @param temp Where to save the binary.
+     * @param name Class name.
+     * @return Path to the saved class file.
+     * @throws Exception If something went wrong.
+     */
+    private static Path save(final Path temp, final String name) throws Exception {
+        final Path result = temp.resolve(String.format("%s.class", name));
+        Files.write(
+            result,
+            new BytesOf(new ResourceOf(String.format("generated/%s.class", name))).asBytes()
+        );
+        return result;
+    }
+
+    /**
+     * Class file of this test.
+     * @return Path to the class file.
+     * @throws URISyntaxException If the class file can't be found.
+     */
+    private static Path self() throws URISyntaxException {
+        return Paths.get(
+            ClassFileScannerTest.class
+                .getResource("ClassFileScannerTest.class")
+                .toURI()
+        );
+    }
+}
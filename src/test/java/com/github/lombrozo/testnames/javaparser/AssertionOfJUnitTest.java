@@ -23,6 +23,7 @@
  */
 package com.github.lombrozo.testnames.javaparser;
 
+import com.github.javaparser.StaticJavaParser;
 import com.github.lombrozo.testnames.Assertion;
 import java.util.Collection;
 import java.util.List;
@@ -199,6 +200,17 @@ final class AssertionOfJUnitTest {
         );
     }
 
+    @Test
+    void returnsNoExplanationForUnknownMethod() {
+        MatcherAssert.assertThat(
+            "Method call that is not a JUnit assertion should not have explanation",
+            new AssertionOfJUnit(
+                StaticJavaParser.parseExpression("check(value, \"message\")").asMethodCallExpr()
+            ).explanation().isPresent(),
+            Matchers.is(false)
+        );
+    }
+
     /**
      * Return assertions from method by name.
      *
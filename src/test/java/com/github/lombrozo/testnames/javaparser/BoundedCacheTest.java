@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link BoundedCache}.
+ *
+ * @since 1.5
+ */
+final class BoundedCacheTest {
+
+    @Test
+    void evictsLeastRecentlyUsedValue() {
+        final BoundedCache<String, Integer> cache = new BoundedCache<>(2);
+        cache.put("first", 1);
+        cache.put("second", 2);
+        cache.get("first");
+        cache.put("third", 3);
+        MatcherAssert.assertThat(
+            "Cache should evict the least recently used value when the limit is reached",
+            cache.contains("second"),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void keepsLimitedNumberOfValues() {
+        final BoundedCache<Integer, Integer> cache = new BoundedCache<>(10);
+        for (int idx = 0; idx < 100; ++idx) {
+            cache.put(idx, idx);
+        }
+        MatcherAssert.assertThat(
+            "Cache should not keep more values than the limit",
+            cache.size(),
+            Matchers.equalTo(10L)
+        );
+    }
+
+    @Test
+    void countsHitsAndMisses() {
+        final BoundedCache<String, String> cache = new BoundedCache<>(10);
+        cache.put("type", "java.lang.String");
+        cache.get("type");
+        cache.get("type");
+        cache.get("absent");
+        MatcherAssert.assertThat(
+            "Cache should count hits and misses",
+            cache.stats().hitRate(),
+            Matchers.closeTo(2.0 / 3.0, 0.001)
+        );
+    }
+}
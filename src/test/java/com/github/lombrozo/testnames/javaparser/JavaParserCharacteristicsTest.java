@@ -23,6 +23,7 @@
  */
 package com.github.lombrozo.testnames.javaparser;
 
+import com.github.lombrozo.testnames.TestClass;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -43,6 +44,16 @@ final class JavaParserCharacteristicsTest {
         );
     }
 
+    @Test
+    void computesCharacteristicsOnlyOnce() {
+        final TestClass test = JavaTestClasses.SIMPLE.toTestClass();
+        MatcherAssert.assertThat(
+            "We expect that characteristics are computed once and then reused",
+            test.characteristics(),
+            Matchers.sameInstance(test.characteristics())
+        );
+    }
+
     @Test
     void checksIfNotJUnitExtension() {
         MatcherAssert.assertThat(
@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import java.util.Collections;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link JavaParserMethod}.
+ *
+ * @since 1.5
+ */
+final class JavaParserMethodTest {
+
+    @Test
+    void returnsNestedStatementsInOrder() {
+        MatcherAssert.assertThat(
+            "Statements should be returned in the order of appearance, including nested ones",
+            new JavaParserMethod(
+                StaticJavaParser.parseMethodDeclaration(
+                    String.join(
+                        "\n",
+                        "void checks() {",
+                        "  first();",
+                        "  if (true) { second(); while (true) { third(); } }",
+                        "  run(() -> { fourth(); });",
+                        "  fifth();",
+                        "}"
+                    )
+                )
+            ).statements().map(MethodCallExpr::getNameAsString).collect(Collectors.toList()),
+            Matchers.contains("first", "second", "third", "run", "fourth", "fifth")
+        );
+    }
+
+    @Test
+    void returnsStatementsOfHugeMethod() {
+        final int size = 2_000;
+        MatcherAssert.assertThat(
+            "All statements of a huge method should be returned",
+            new JavaParserMethod(
+                StaticJavaParser.parseMethodDeclaration(
+                    String.format(
+                        "void checks() { %s %s }",
+                        IntStream.range(0, size)
+                            .mapToObj(idx -> String.format("check(%d);", idx))
+                            .collect(Collectors.joining(" ")),
+                        String.join("", Collections.nCopies(200, "{ nested(); "))
+                            + String.join("", Collections.nCopies(200, "}"))
+                    )
+                )
+            ).statements().count(),
+            Matchers.equalTo(2_200L)
+        );
+    }
+}
@@ -23,6 +23,9 @@
  */
 package com.github.lombrozo.testnames.javaparser;
 
+import com.github.javaparser.ParseProblemException;
+import com.github.lombrozo.testnames.Facts;
+import com.github.lombrozo.testnames.InspectionCache;
 import com.github.lombrozo.testnames.ProductionClass;
 import com.github.lombrozo.testnames.TestCase;
 import com.github.lombrozo.testnames.TestClass;
@@ -32,10 +35,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -200,4 +206,76 @@ final class JavaParserProjectTest {
             Matchers.empty()
         );
     }
+
+    @Test
+    void parsesEachTestFileOnlyOnce(@TempDir final Path temp) throws IOException {
+        final Path file = temp.resolve("TestSimple.java");
+        Files.copy(JavaTestClasses.SIMPLE.inputStream(), file);
+        final Collection<TestClass> classes = new JavaParserProject(temp, temp).testClasses();
+        Files.delete(file);
+        MatcherAssert.assertThat(
+            "We expect that test class reuses the parsed file instead of reading it again",
+            classes.iterator().next().all(),
+            Matchers.not(Matchers.empty())
+        );
+    }
+
+    @Test
+    void parsesTestFileOnlyWhenStreamReachesIt(@TempDir final Path temp) throws IOException {
+        Files.write(
+            temp.resolve("BrokenTest.java"),
+            "class BrokenTest {".getBytes(StandardCharsets.UTF_8)
+        );
+        try (Stream<TestClass> tests = new JavaParserProject(temp, temp).tests()) {
+            Assertions.assertThrows(
+                ParseProblemException.class,
+                tests::count,
+                "We expect that the file is parsed only when the stream is consumed"
+            );
+        }
+    }
+
+    @Test
+    void collectsTestsWithoutParsingAtTierOfNames(@TempDir final Path temp) throws IOException {
+        Files.write(
+            temp.resolve("BrokenTest.java"),
+            "class BrokenTest { @Test void checks() {".getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "We expect that test files are recognised by their text at the tier of names",
+            JavaParserProjectTest.names(temp).testClasses(),
+            Matchers.hasSize(1)
+        );
+    }
+
+    @Test
+    void ignoresFilesWithoutTestsAtTierOfNames(@TempDir final Path temp) throws IOException {
+        Files.write(
+            temp.resolve("Helper.java"),
+            "class Helper { void help() {} }".getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "We expect that files without test annotations are ignored at the tier of names",
+            JavaParserProjectTest.names(temp).testClasses(),
+            Matchers.empty()
+        );
+    }
+
+    /**
+     * Project that needs only names of test classes.
+     * @param temp Directory with sources and tests.
+     * @return Project.
+     */
+    private static JavaParserProject names(final Path temp) {
+        return new JavaParserProject(
+            temp,
+            temp,
+            Collections.emptySet(),
+            "21",
+            new InspectionCache.Disabled(),
+            Collections.emptyList(),
+            false,
+            Facts.NAMES
+        );
+    }
 }
@@ -23,8 +23,11 @@
  */
 package com.github.lombrozo.testnames.javaparser;
 
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.lombrozo.testnames.Assertion;
 import com.github.lombrozo.testnames.TestCase;
+import com.github.lombrozo.testnames.TestClass;
 import com.github.lombrozo.testnames.rules.RuleEveryTestHasProductionClass;
 import com.github.lombrozo.testnames.rules.RuleNotCamelCase;
 import com.github.lombrozo.testnames.rules.RuleNotContainsTestWord;
@@ -98,6 +101,42 @@ final class JavaParserTestCaseTest {
         );
     }
 
+    @Test
+    void mergesSuppressionOfClassAndMethod() {
+        MatcherAssert.assertThat(
+            "The suppression of the method has to include rules of the class and the method",
+            JavaTestClasses.MANY_SUPPRESSED
+                .testCase("checksTest")
+                .suppression()
+                .hasAny(Arrays.asList("AnotherRule", RuleEveryTestHasProductionClass.SECOND_NAME)),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void computesSuppressionOnlyOnce() {
+        final TestCase test = JavaTestClasses.MANY_SUPPRESSED.testCase("checksTest");
+        MatcherAssert.assertThat(
+            "The suppression of the method has to be computed once and then reused",
+            test.suppression(),
+            Matchers.sameInstance(test.suppression())
+        );
+    }
+
+    @Test
+    void differsIfDeclaredAtDifferentPositions() {
+        final List<MethodDeclaration> methods = StaticJavaParser.parse(
+            "class OverloadedTest { void checks() { } void checks() { } }"
+        ).findAll(MethodDeclaration.class);
+        MatcherAssert.assertThat(
+            "Test cases declared at different positions should not be equal",
+            new JavaParserTestCase(methods.get(0), new TestClass.Fake()),
+            Matchers.not(
+                Matchers.equalTo(new JavaParserTestCase(methods.get(1), new TestClass.Fake()))
+            )
+        );
+    }
+
     @Test
     void parsesSuppressedAnnotations() {
         final String test = "checksTest";
@@ -24,6 +24,7 @@
 
 package com.github.lombrozo.testnames.javaparser;
 
+import com.github.lombrozo.testnames.Suppression;
 import com.github.lombrozo.testnames.TestCase;
 import com.github.lombrozo.testnames.rules.RuleEveryTestHasProductionClass;
 import com.github.lombrozo.testnames.rules.RuleNotCamelCase;
@@ -252,4 +253,26 @@ final class JavaParserTestClassTest {
             "We expected that exception will be thrown, because java version is unrecognized"
         );
     }
+
+    @Test
+    void collectsTestCasesOnlyOnce() {
+        final JavaParserTestClass klass = JavaTestClasses.SIMPLE.toTestClass();
+        MatcherAssert.assertThat(
+            "We expect that test cases are collected once and then reused",
+            klass.all(),
+            Matchers.sameInstance(klass.all())
+        );
+    }
+
+    @Test
+    void mergesProjectExclusionsIntoSuppression() {
+        MatcherAssert.assertThat(
+            "We expect that rules excluded for the project are suppressed for the class",
+            JavaTestClasses.MANY_SUPPRESSED
+                .toTestClass("Custom", "Project")
+                .suppression()
+                .has(Suppression.id("Project")),
+            Matchers.is(true)
+        );
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.javaparser.ParseProblemException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link SourceParser}.
+ *
+ * @since 1.5
+ */
+final class SourceParserTest {
+
+    @Test
+    void parsesTextBlocksWithModernLanguageLevel() {
+        MatcherAssert.assertThat(
+            "Parser with Java 17 language level should parse text blocks",
+            new SourceParser(JavaParserProject.resolver(), "17")
+                .parse(JavaTestClasses.JAVA_17_TEST.inputStream())
+                .getTypes(),
+            Matchers.hasSize(1)
+        );
+    }
+
+    @Test
+    void rejectsTextBlocksWithOldLanguageLevel() {
+        Assertions.assertThrows(
+            ParseProblemException.class,
+            () -> new SourceParser(JavaParserProject.resolver(), "8")
+                .parse(JavaTestClasses.JAVA_17_TEST.inputStream()),
+            "Parser with Java 8 language level should not parse text blocks"
+        );
+    }
+
+    @Test
+    void keepsLanguageLevelsIsolatedBetweenThreads() throws Exception {
+        final SourceParser modern = new SourceParser(JavaParserProject.resolver(), "21");
+        final SourceParser old = new SourceParser(JavaParserProject.resolver(), "8");
+        final ExecutorService threads = Executors.newFixedThreadPool(2);
+        try {
+            final Future<?> rejected = threads.submit(
+                () -> Assertions.assertThrows(
+                    ParseProblemException.class,
+                    () -> old.parse(JavaTestClasses.JAVA_17_TEST.inputStream()),
+                    "Java 8 parser should not be affected by Java 21 parser"
+                )
+            );
+            final Future<?> parsed = threads.submit(
+                () -> modern.parse(JavaTestClasses.JAVA_17_TEST.inputStream())
+            );
+            rejected.get();
+            MatcherAssert.assertThat(
+                "Java 21 parser should not be affected by Java 8 parser",
+                parsed.get(),
+                Matchers.notNullValue()
+            );
+        } finally {
+            threads.shutdown();
+        }
+    }
+}
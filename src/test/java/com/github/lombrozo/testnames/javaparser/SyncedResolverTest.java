@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.type.Type;
+import com.github.javaparser.resolution.SymbolResolver;
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.resolution.types.ResolvedPrimitiveType;
+import com.github.javaparser.resolution.types.ResolvedType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SyncedResolver}.
+ *
+ * @since 1.5
+ */
+final class SyncedResolverTest {
+
+    @Test
+    void resolvesOneSymbolAtTime() throws InterruptedException {
+        final Overlaps overlaps = new Overlaps();
+        final SymbolResolver resolver = new SyncedResolver(overlaps);
+        final Expression expression = StaticJavaParser.parseExpression("1 == 1");
+        final ExecutorService threads = Executors.newFixedThreadPool(8);
+        for (int idx = 0; idx < 64; ++idx) {
+            threads.execute(() -> resolver.calculateType(expression));
+        }
+        threads.shutdown();
+        threads.awaitTermination(1, TimeUnit.MINUTES);
+        MatcherAssert.assertThat(
+            "We expect that symbols are never resolved by several threads at once",
+            overlaps.max(),
+            Matchers.is(1)
+        );
+    }
+
+    /**
+     * Resolver that counts how many threads resolve symbols at once.
+     *
+     * @since 1.5
+     */
+    private static final class Overlaps implements SymbolResolver {
+
+        /**
+         * Threads resolving symbols right now.
+         */
+        private final AtomicInteger now = new AtomicInteger();
+
+        /**
+         * The most threads resolving symbols at once.
+         */
+        private final AtomicInteger most = new AtomicInteger();
+
+        @Override
+        public <T> T resolveDeclaration(final Node node, final Class<T> type) {
+            throw new UnsupportedOperationException("resolveDeclaration");
+        }
+
+        @Override
+        public <T> T toResolvedType(final Type type, final Class<T> result) {
+            throw new UnsupportedOperationException("toResolvedType");
+        }
+
+        @Override
+        public ResolvedType calculateType(final Expression expression) {
+            this.most.accumulateAndGet(this.now.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(1L);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            this.now.decrementAndGet();
+            return ResolvedPrimitiveType.BOOLEAN;
+        }
+
+        @Override
+        public ResolvedReferenceTypeDeclaration toTypeDeclaration(final Node node) {
+            throw new UnsupportedOperationException("toTypeDeclaration");
+        }
+
+        /**
+         * The most threads resolving symbols at once.
+         * @return Number of threads.
+         */
+        int max() {
+            return this.most.get();
+        }
+    }
+}
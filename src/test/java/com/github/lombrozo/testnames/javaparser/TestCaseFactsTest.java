@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.lombrozo.testnames.Assertion;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link TestCaseFacts}.
+ *
+ * @since 1.5
+ */
+final class TestCaseFactsTest {
+
+    /**
+     * Test method with nested assertions.
+     */
+    private static final String METHOD = String.join(
+        "\n",
+        "void checksSomething() {",
+        "  int number = 1;",
+        "  Assertions.assertTrue(true, \"explanation\");",
+        "  values.forEach(value -> { Assertions.assertFalse(false); });",
+        "}"
+    );
+
+    @Test
+    void collectsNestedAssertions() {
+        MatcherAssert.assertThat(
+            "Facts should contain all assertions, including nested ones",
+            TestCaseFactsTest.facts().assertions()
+                .stream()
+                .map(Assertion::explanation)
+                .collect(Collectors.toList()),
+            Matchers.contains(Optional.of("explanation"), Optional.empty())
+        );
+    }
+
+    @Test
+    void collectsAllExpressionStatements() {
+        MatcherAssert.assertThat(
+            "Facts should contain all expression statements of the method",
+            TestCaseFactsTest.facts().statements(),
+            Matchers.hasSize(4)
+        );
+    }
+
+    @Test
+    void collectsLineHitters() {
+        MatcherAssert.assertThat(
+            "Facts should mark line hitters",
+            TestCaseFactsTest.facts().assertions()
+                .stream()
+                .filter(Assertion::isLineHitter)
+                .count(),
+            Matchers.equalTo(2L)
+        );
+    }
+
+    @Test
+    void doesNotResolveTypesForStatements() {
+        MatcherAssert.assertThat(
+            "Facts should not resolve types of assertions until an explanation is asked for",
+            new TestCaseFacts(
+                new JavaParserMethod(
+                    StaticJavaParser.parseMethodDeclaration(
+                        "void checks() { MatcherAssert.assertThat(\"Equals\", 1 == 1); }"
+                    )
+                )
+            ).statements(),
+            Matchers.hasSize(1)
+        );
+    }
+
+    /**
+     * Facts of the test method.
+     * @return Facts.
+     */
+    private static TestCaseFacts facts() {
+        return new TestCaseFacts(
+            new JavaParserMethod(StaticJavaParser.parseMethodDeclaration(TestCaseFactsTest.METHOD))
+        );
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Tests for {@link TestsInText}.
+ *
+ * @since 1.5
+ */
+final class TestsInTextTest {
+
+    @Test
+    void acceptsQualifiedAnnotation(@TempDir final Path temp) throws IOException {
+        MatcherAssert.assertThat(
+            "We expect that the qualified test annotation is found",
+            new TestsInText().test(
+                TestsInTextTest.file(
+                    temp.resolve("SomeTest.java"),
+                    "class SomeTest { @org.junit.jupiter.api.Test void checks() {} }"
+                )
+            ),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void acceptsParameterizedTest(@TempDir final Path temp) throws IOException {
+        MatcherAssert.assertThat(
+            "We expect that the parameterized test annotation is found",
+            new TestsInText().test(
+                TestsInTextTest.file(
+                    temp.resolve("SomeTest.java"),
+                    "class SomeTest { @ParameterizedTest void checks(int x) {} }"
+                )
+            ),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void rejectsFileWithoutTests(@TempDir final Path temp) throws IOException {
+        MatcherAssert.assertThat(
+            "We expect that the file without test annotations is rejected",
+            new TestsInText().test(
+                TestsInTextTest.file(
+                    temp.resolve("Helper.java"),
+                    "class Helper { @TestFactory Object tests() { return null; } }"
+                )
+            ),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void rejectsPackageInfo(@TempDir final Path temp) throws IOException {
+        MatcherAssert.assertThat(
+            "We expect that package-info is never a test",
+            new TestsInText().test(
+                TestsInTextTest.file(temp.resolve("package-info.java"), "/** @Test */ package a;")
+            ),
+            Matchers.is(false)
+        );
+    }
+
+    @ParameterizedTest
+    @EnumSource(JavaTestClasses.class)
+    void acceptsEveryFileWithTests(
+        final JavaTestClasses klass,
+        @TempDir final Path temp
+    ) throws IOException {
+        final Path path = temp.resolve(klass.name());
+        Files.copy(klass.inputStream(), path);
+        final boolean tests = new JavaParserClass(klass.inputStream(), JavaParserProject.resolver())
+            .methods(new TestsOnly())
+            .findAny()
+            .isPresent();
+        MatcherAssert.assertThat(
+            String.format("We expect that %s is accepted if it has tests", klass),
+            !tests || new TestsInText().test(path),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Write java file.
+     * @param path Path to the file.
+     * @param text Text of the file.
+     * @return Path to the file.
+     * @throws IOException If the file can't be written.
+     */
+    private static Path file(final Path path, final String text) throws IOException {
+        return Files.write(path, text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.javaparser.ast.ImportDeclaration;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link TypeNames}.
+ *
+ * @since 1.5
+ */
+final class TypeNamesTest {
+
+    @Test
+    void resolvesNameFromSingleTypeImport() {
+        MatcherAssert.assertThat(
+            "We expect that the simple name is resolved by the explicit import",
+            new TypeNames().resolved(
+                "ExecutionCondition",
+                Collections.singleton(
+                    new ImportDeclaration(
+                        "org.junit.jupiter.api.extension.ExecutionCondition",
+                        false,
+                        false
+                    )
+                ),
+                Optional.of("com.example")
+            ),
+            Matchers.equalTo("org.junit.jupiter.api.extension.ExecutionCondition")
+        );
+    }
+
+    @Test
+    void resolvesNestedTypeOfImportedClass() {
+        MatcherAssert.assertThat(
+            "We expect that the nested type is resolved by the import of the outer class",
+            new TypeNames().resolved(
+                "Outer.Inner",
+                Collections.singleton(new ImportDeclaration("org.example.Outer", false, false)),
+                Optional.of("com.example")
+            ),
+            Matchers.equalTo("org.example.Outer.Inner")
+        );
+    }
+
+    @Test
+    void keepsFullyQualifiedName() {
+        MatcherAssert.assertThat(
+            "We expect that the fully qualified name is kept as is",
+            new TypeNames().resolved(
+                "org.junit.jupiter.api.extension.ExecutionCondition",
+                Collections.emptyList(),
+                Optional.of("com.example")
+            ),
+            Matchers.equalTo("org.junit.jupiter.api.extension.ExecutionCondition")
+        );
+    }
+
+    @Test
+    void resolvesNotImportedNameToSamePackageWithoutClassloading() {
+        MatcherAssert.assertThat(
+            "We expect that without classloading on-demand imports are ignored",
+            new TypeNames().resolved(
+                "ExecutionCondition",
+                Collections.singleton(
+                    new ImportDeclaration("org.junit.jupiter.api.extension", false, true)
+                ),
+                Optional.of("com.example")
+            ),
+            Matchers.equalTo("com.example.ExecutionCondition")
+        );
+    }
+
+    @Test
+    void resolvesOnDemandImportWithClassloading() {
+        MatcherAssert.assertThat(
+            "We expect that with classloading the type is found among on-demand imports",
+            new TypeNames(Thread.currentThread().getContextClassLoader()).resolved(
+                "ExecutionCondition",
+                Collections.singleton(
+                    new ImportDeclaration("org.junit.jupiter.api.extension", false, true)
+                ),
+                Optional.of("com.example")
+            ),
+            Matchers.equalTo("org.junit.jupiter.api.extension.ExecutionCondition")
+        );
+    }
+
+    @Test
+    void loadsEachClassOnlyOnce() {
+        final AtomicInteger loads = new AtomicInteger();
+        final TypeNames names = new TypeNames(
+            new ClassLoader(Thread.currentThread().getContextClassLoader()) {
+                @Override
+                public Class<?> loadClass(final String name) throws ClassNotFoundException {
+                    loads.incrementAndGet();
+                    return super.loadClass(name);
+                }
+            }
+        );
+        for (int idx = 0; idx < 10; ++idx) {
+            names.resolved(
+                "Missing",
+                Collections.singleton(new ImportDeclaration("org.example", false, true)),
+                Optional.empty()
+            );
+        }
+        MatcherAssert.assertThat(
+            "We expect that the result of classloading is memoized",
+            loads.get(),
+            Matchers.equalTo(1)
+        );
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+import com.github.lombrozo.testnames.Assertion;
+import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.Facts;
+import com.github.lombrozo.testnames.Parameters;
+import com.github.lombrozo.testnames.Suppression;
+import com.github.lombrozo.testnames.TestCase;
+import java.util.Arrays;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CaseRules}.
+ *
+ * @since 1.5
+ */
+final class CaseRulesTest {
+
+    @Test
+    void acceptsCorrectTestCase() {
+        MatcherAssert.assertThat(
+            "We expect that a correct test case has no complaints",
+            new CaseRules(new Parameters()).complaints(
+                new TestCase.Fake("createsUser", new Assertion.Fake("User is created"))
+            ),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void reportsComplaintsOfAllRules() {
+        MatcherAssert.assertThat(
+            "We expect complaints about camel case, 'test' word and present tense",
+            new CaseRules(new Parameters()).complaints(
+                new TestCase.Fake("TestCreate", new Assertion.Fake("User is created"))
+            ),
+            Matchers.hasSize(3)
+        );
+    }
+
+    @Test
+    void dropsRuleExcludedForWholeProject() {
+        MatcherAssert.assertThat(
+            "We expect that the excluded rule is dropped from the composition",
+            new CaseRules(new Parameters())
+                .without(new Suppression(Collections.singleton(RuleNotCamelCase.NAME)))
+                .complaints(new TestCase.Fake("CreatesUser"))
+                .stream()
+                .map(Complaint::message)
+                .anyMatch(msg -> msg.contains(RuleNotCamelCase.NAME)),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void becomesEmptyIfCompositionIsExcluded() {
+        MatcherAssert.assertThat(
+            "We expect that no rules remain if the whole composition is excluded",
+            new CaseRules(new Parameters())
+                .without(new Suppression(Collections.singleton("RuleCorrectTestCase")))
+                .isEmpty(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void needsOnlyStructureForNames() {
+        MatcherAssert.assertThat(
+            "We expect that rules for names of test cases need only the structure of a class",
+            new CaseRules(new Parameters())
+                .without(
+                    new Suppression(
+                        Arrays.asList(
+                            "RuleAssertionMessage",
+                            "LineHitterRule",
+                            "RuleTestCaseContainsMockery"
+                        )
+                    )
+                )
+                .facts(),
+            Matchers.is(Facts.STRUCTURE)
+        );
+    }
+
+    @Test
+    void skipsSuppressedRule() {
+        MatcherAssert.assertThat(
+            "We expect that the suppressed rule doesn't complain",
+            new CaseRules(new Parameters()).complaints(
+                new TestCase.Fake(
+                    "CreatesUser",
+                    Collections.singletonList(RuleNotCamelCase.NAME)
+                )
+            ).stream()
+                .map(Complaint::message)
+                .anyMatch(msg -> msg.contains(RuleNotCamelCase.NAME)),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void skipsAllRulesIfSuppressedTogether() {
+        MatcherAssert.assertThat(
+            "We expect that no rule complains if all of them are suppressed",
+            new CaseRules(new Parameters()).complaints(
+                new TestCase.Fake(
+                    "Test_Created",
+                    Collections.singletonList("RuleCorrectTestCase")
+                )
+            ),
+            Matchers.empty()
+        );
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Tests for {@link NameFacts}.
+ *
+ * @since 1.5
+ */
+final class NameFactsTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "createsUser, false",
+        "CreatesUser, true",
+        "c, false",
+        "'', false"
+    })
+    void findsNotCamelCase(final String name, final boolean expected) {
+        MatcherAssert.assertThat(
+            String.format("We expect that '%s' is camel case: %b", name, !expected),
+            NameFacts.notCamelCase(NameFacts.scan(name)),
+            Matchers.is(expected)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "createsUser, false",
+        "createsUserrr, false",
+        "createsUserrrr, true",
+        "aaaa, true"
+    })
+    void findsSpam(final String name, final boolean expected) {
+        MatcherAssert.assertThat(
+            String.format("We expect that '%s' is spam: %b", name, expected),
+            NameFacts.spam(NameFacts.scan(name)),
+            Matchers.is(expected)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "createsUser, true",
+        "creates, true",
+        "createUser, false",
+        "create, false",
+        "Creates, false",
+        "'', false"
+    })
+    void findsPresentTense(final String name, final boolean expected) {
+        MatcherAssert.assertThat(
+            String.format("We expect that '%s' is in present tense: %b", name, expected),
+            NameFacts.presentTense(NameFacts.scan(name)),
+            Matchers.is(expected)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "createsUser, false",
+        "creates_user, true",
+        "creates$user, true"
+    })
+    void findsSpecialCharacters(final String name, final boolean expected) {
+        MatcherAssert.assertThat(
+            String.format("We expect that '%s' has special characters: %b", name, expected),
+            NameFacts.specialCharacters(NameFacts.scan(name)),
+            Matchers.is(expected)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "createsUser, false",
+        "test, true",
+        "createsTest, true",
+        "TESTcreates, true",
+        "checksAttestation, true",
+        "tEsT, false",
+        "teSt, false",
+        "tes, false"
+    })
+    void findsTestWord(final String name, final boolean expected) {
+        MatcherAssert.assertThat(
+            String.format("We expect that '%s' contains the 'test' word: %b", name, expected),
+            NameFacts.testWord(NameFacts.scan(name)),
+            Matchers.is(expected)
+        );
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.TestClass;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RuleConfirmed}.
+ *
+ * @since 1.5
+ */
+final class RuleConfirmedTest {
+
+    @Test
+    void keepsComplaintsAboutTestClass() {
+        MatcherAssert.assertThat(
+            "We expect that complaints about a test class are kept",
+            new RuleConfirmed(
+                new RuleConditional(() -> true, new Complaint.Text("Wrong name")),
+                new TestClass.Fake()
+            ).complaints(),
+            Matchers.hasSize(1)
+        );
+    }
+
+    @Test
+    void dropsComplaintsAboutJUnitExtension() {
+        MatcherAssert.assertThat(
+            "We expect that complaints about a JUnit extension are dropped",
+            new RuleConfirmed(
+                new RuleConditional(() -> true, new Complaint.Text("Wrong name")),
+                new TestClass.Fake(true)
+            ).complaints(),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void keepsAliasesOfOriginRule() {
+        MatcherAssert.assertThat(
+            "We expect that the rule is suppressed by the name of the origin rule",
+            new RuleConfirmed(
+                new RuleCorrectTestName(new TestClass.Fake()),
+                new TestClass.Fake()
+            ).aliases(),
+            Matchers.contains("RuleCorrectTestName")
+        );
+    }
+}
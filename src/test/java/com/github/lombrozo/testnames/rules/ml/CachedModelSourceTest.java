@@ -23,10 +23,15 @@
  */
 package com.github.lombrozo.testnames.rules.ml;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Tests for {@link CachedModelSource}.
@@ -51,4 +56,25 @@ final class CachedModelSourceTest {
             Matchers.notNullValue()
         );
     }
+
+    @Test
+    void rejectsCachedModelWithoutChecksum(@TempDir final Path temp) throws Exception {
+        final Path cached = Files.write(
+            temp.resolve("cached.bin"),
+            "model".getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "Cached model without checksum should not be trusted",
+            Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> new CachedModelSource(
+                    () -> {
+                        throw new IllegalStateException("Origin should not be asked");
+                    },
+                    cached.toString()
+                ).model()
+            ).getMessage(),
+            Matchers.containsString("has no checksum")
+        );
+    }
 }
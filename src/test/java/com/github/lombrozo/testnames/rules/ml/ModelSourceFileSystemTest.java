@@ -38,7 +38,7 @@ final class ModelSourceFileSystemTest {
     @Test
     void loadsFromFileSystem(@TempDir final Path temp) throws Exception {
         final Path path = temp.resolve("model.bin");
-        new CachedModelSource(new ModelSourceInternet()).model().serialize(
+        new ModelSourceLocal(temp.resolve("cache.bin"), true).model().serialize(
             path
         );
         MatcherAssert.assertThat(
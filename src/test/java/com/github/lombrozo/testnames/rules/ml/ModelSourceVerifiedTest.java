@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules.ml;
+
+import org.cactoos.io.InputOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ModelSourceVerified}.
+ *
+ * @since 1.5
+ */
+final class ModelSourceVerifiedTest {
+
+    @Test
+    void rejectsModelWithWrongChecksum() {
+        MatcherAssert.assertThat(
+            "We expect that the model with wrong checksum is rejected",
+            Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> new ModelSourceVerified(
+                    "corrupted",
+                    new InputOf("corrupted model"),
+                    new InputOf(ModelSourceVerified.digest("original model".getBytes()))
+                ).model()
+            ).getMessage(),
+            Matchers.containsString("corrupted")
+        );
+    }
+
+    @Test
+    void computesHexDigest() {
+        MatcherAssert.assertThat(
+            "We expect the SHA-256 digest in the format of sha256sum",
+            ModelSourceVerified.digest("abc".getBytes()),
+            Matchers.equalTo(
+                "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad"
+            )
+        );
+    }
+}
@@ -24,11 +24,16 @@
 package com.github.lombrozo.testnames.rules.ml;
 
 import com.github.lombrozo.testnames.TestCase;
-import opennlp.tools.postag.POSTaggerME;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.Collectors;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -40,14 +45,32 @@ import org.junit.jupiter.params.provider.CsvSource;
 final class RulePresentSimpleMlTest {
 
     /**
-     * Model for tests.
+     * Taggers for tests.
      */
-    private static POSTaggerME model;
+    private static Taggers model;
 
     @BeforeAll
-    static void setUp() throws Exception {
-        RulePresentSimpleMlTest.model = new POSTaggerME(
-            new CachedModelSource(new ModelSourceInternet()).model()
+    static void setUp(@TempDir final Path temp) throws Exception {
+        RulePresentSimpleMlTest.model = new Taggers(
+            new ModelSourceLocal(temp.resolve("model.bin"), true)
+        );
+        RulePresentSimpleMlTest.model.tag("It", "loads");
+    }
+
+    @Test
+    void checksNamesInParallel() {
+        final Collection<String> names = Arrays.asList(
+            "buildsRequest", "checksCorrectName", "locksBranch", "buildsReport",
+            "unlocksBranch", "addsAuthor", "preventsSpam", "createsRelease"
+        );
+        MatcherAssert.assertThat(
+            "Names checked in parallel have to be correct",
+            names.parallelStream()
+                .map(TestCase.Fake::new)
+                .map(test -> new RulePresentSimpleMl(RulePresentSimpleMlTest.model, test))
+                .flatMap(rule -> rule.complaints().stream())
+                .collect(Collectors.toList()),
+            Matchers.empty()
         );
     }
 
@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules.ml;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SharedModelSource}.
+ *
+ * @since 1.5
+ */
+final class SharedModelSourceTest {
+
+    @Test
+    void loadsModelOnlyOnce() {
+        final AtomicInteger loads = new AtomicInteger();
+        final ModelSource origin = () -> {
+            loads.incrementAndGet();
+            return null;
+        };
+        IntStream.range(0, 100)
+            .parallel()
+            .forEach(idx -> new SharedModelSource("loads-once", origin).model());
+        MatcherAssert.assertThat(
+            "We expect that the model is loaded once for all threads and sources",
+            loads.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void loadsDifferentModelsByDifferentKeys() {
+        final AtomicInteger loads = new AtomicInteger();
+        final ModelSource origin = () -> {
+            loads.incrementAndGet();
+            return null;
+        };
+        new SharedModelSource("first", origin).model();
+        new SharedModelSource("second", origin).model();
+        MatcherAssert.assertThat(
+            "We expect that models with different keys are loaded separately",
+            loads.get(),
+            Matchers.equalTo(2)
+        );
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules.ml;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link TagMemo}.
+ *
+ * @since 1.5
+ */
+final class TagMemoTest {
+
+    @Test
+    void tagsRepeatedSequenceOnce() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<String[], String[]> tagger = words -> {
+            calls.incrementAndGet();
+            return new String[]{"PRP", "VBZ"};
+        };
+        final TagMemo memo = new TagMemo(10);
+        memo.tags(new String[]{"it", "returns"}, tagger);
+        memo.tags(new String[]{"it", "returns"}, tagger);
+        MatcherAssert.assertThat(
+            "We expect that the same sequence is tagged only once",
+            calls.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedSequence() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<String[], String[]> tagger = words -> {
+            calls.incrementAndGet();
+            return words;
+        };
+        final TagMemo memo = new TagMemo(2);
+        memo.tags(new String[]{"it", "returns"}, tagger);
+        memo.tags(new String[]{"it", "throws"}, tagger);
+        memo.tags(new String[]{"it", "returns"}, tagger);
+        memo.tags(new String[]{"it", "creates"}, tagger);
+        memo.tags(new String[]{"it", "throws"}, tagger);
+        MatcherAssert.assertThat(
+            "We expect that the least recently used sequence is evicted",
+            calls.get(),
+            Matchers.equalTo(4)
+        );
+    }
+
+    @Test
+    void protectsMemoisedTagsFromModification() {
+        final TagMemo memo = new TagMemo(10);
+        memo.tags(new String[]{"it", "returns"}, words -> new String[]{"PRP", "VBZ"})[1] = "NN";
+        MatcherAssert.assertThat(
+            "We expect that callers can't modify memoised tags",
+            memo.tags(new String[]{"it", "returns"}, words -> words)[1],
+            Matchers.equalTo("VBZ")
+        );
+    }
+}
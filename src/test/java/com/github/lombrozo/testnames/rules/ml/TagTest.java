@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules.ml;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for {@link Tag}.
+ *
+ * @since 1.5
+ */
+final class TagTest {
+
+    @Test
+    void parsesRawTagWithSpecialCharacters() {
+        MatcherAssert.assertThat(
+            "We expect that raw tags which aren't valid Java names are parsed",
+            Tag.parse("WP$"),
+            Matchers.is(Tag.WP_DOLLAR)
+        );
+    }
+
+    @Test
+    void parsesUnknownRawTag() {
+        MatcherAssert.assertThat(
+            "We expect that unknown raw tags are parsed as UNKNOWN",
+            Tag.parse("XYZ"),
+            Matchers.is(Tag.UNKNOWN)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"VB", "VBP", "VBZ"})
+    void classifiesVerbs(final String raw) {
+        MatcherAssert.assertThat(
+            String.format("We expect that %s is a verb", raw),
+            Tag.parse(raw).isVerb(),
+            Matchers.is(true)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"NN", "VBD", "VBG", "PRP"})
+    void classifiesNotVerbs(final String raw) {
+        MatcherAssert.assertThat(
+            String.format("We expect that %s isn't a verb", raw),
+            Tag.parse(raw).isVerb(),
+            Matchers.is(false)
+        );
+    }
+}